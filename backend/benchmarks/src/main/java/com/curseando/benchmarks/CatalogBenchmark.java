@@ -0,0 +1,66 @@
+package com.curseando.benchmarks;
+
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.model.Course;
+import com.curseando.model.DifficultyLevel;
+import com.curseando.repository.CourseRepository;
+import com.curseando.service.CourseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CourseService#findAll()} through the catalog cache, and the same call
+ * on the bare service, which loads every course and maps it with toDTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogBenchmark {
+
+    private static final int CATALOG_SIZE = 200;
+
+    private CourseService cachedCourseService;
+    private CourseService uncachedCourseService;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        CourseRepository courseRepository = application.getBean(CourseRepository.class);
+        List<Course> courses = new ArrayList<>();
+        for (long i = courseRepository.count(); i < CATALOG_SIZE; i++) {
+            courses.add(new Course("Benchmark Course " + i, "Instructor " + i, "40 hours",
+                    DifficultyLevel.values()[(int) (i % DifficultyLevel.values().length)],
+                    "A course description long enough to look like the seeded ones in the catalog.", 50));
+        }
+        courseRepository.saveAll(courses);
+
+        cachedCourseService = application.getBean(CourseService.class);
+        uncachedCourseService = (CourseService) AopProxyUtils.getSingletonTarget(cachedCourseService);
+    }
+
+    @Benchmark
+    public List<CourseSummaryDTO> findAllCached() {
+        return cachedCourseService.findAll();
+    }
+
+    @Benchmark
+    public List<CourseSummaryDTO> findAllUncached() {
+        return uncachedCourseService.findAll();
+    }
+}
@@ -0,0 +1,56 @@
+package com.curseando.benchmarks;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.model.Course;
+import com.curseando.model.DifficultyLevel;
+import com.curseando.repository.CourseRepository;
+import com.curseando.service.EnrollmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A full {@link EnrollmentService#enroll} against embedded H2: seat
+ * reservation, the enrollment transaction and the after-commit listeners.
+ * Every call enrolls a new student in a course that never fills up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrollmentBenchmark {
+
+    private final AtomicLong studentSequence = new AtomicLong();
+
+    private EnrollmentService enrollmentService;
+    private Long courseId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        Course course = new Course("Benchmark Course", "Instructor", "40 hours", DifficultyLevel.BEGINNER,
+                "Course that never fills up during a benchmark run.", 100_000_000);
+        courseId = application.getBean(CourseRepository.class).save(course).getId();
+        enrollmentService = application.getBean(EnrollmentService.class);
+    }
+
+    @Benchmark
+    public EnrollmentResponse enroll() {
+        long student = studentSequence.incrementAndGet();
+        return enrollmentService.enroll(new EnrollmentRequest(courseId,
+                "Benchmark Student " + student, "student" + student + "@bench.example.com"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.curseando.benchmarks;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.model.Course;
+import com.curseando.model.DifficultyLevel;
+import com.curseando.repository.CourseRepository;
+import com.curseando.service.EnrollmentAdmissionQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Many callers enrolling in one course through {@link EnrollmentAdmissionQueue},
+ * against embedded H2. With a group commit size of 1 the course lane commits
+ * every enrollment on its own; with a larger size it commits whatever queued
+ * up during the previous transaction in one go. Scores are enrollments per
+ * second on the hot course.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class HotCourseEnrollmentBenchmark {
+
+    @Param({"1", "50"})
+    private int groupCommitSize;
+
+    private final AtomicLong studentSequence = new AtomicLong();
+
+    private EnrollmentAdmissionQueue admissionQueue;
+    private Long courseId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        application.getBean(EnrollmentProperties.class).getAdmission().setGroupCommitSize(groupCommitSize);
+        Course course = new Course("Hot Course", "Instructor", "40 hours", DifficultyLevel.BEGINNER,
+                "Course every benchmark thread enrolls in at once.", 100_000_000);
+        courseId = application.getBean(CourseRepository.class).save(course).getId();
+        admissionQueue = application.getBean(EnrollmentAdmissionQueue.class);
+    }
+
+    @Benchmark
+    public EnrollmentResponse enroll() {
+        long student = studentSequence.incrementAndGet();
+        return admissionQueue.submit(new EnrollmentRequest(courseId,
+                "Hot Student " + student, "hot" + student + "-" + groupCommitSize + "@bench.example.com")).join();
+    }
+}
@@ -0,0 +1,64 @@
+package com.curseando.benchmarks;
+
+import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.model.DifficultyLevel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CourseDTO} and catalog list ({@link CourseSummaryDTO}) JSON serialization, with an ObjectMapper configured the way
+ * Spring Boot configures the one used by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CourseDTO course;
+    private List<CourseSummaryDTO> catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        catalog = new ArrayList<>();
+        for (long i = 1; i <= 200; i++) {
+            catalog.add(new CourseSummaryDTO(i, "Benchmark Course " + i, "Instructor " + i, "40 hours",
+                    DifficultyLevel.values()[(int) (i % DifficultyLevel.values().length)],
+                    "A course description long enough to look like the seeded ones in the catalog.",
+                    50, (int) (i % 50), 0L));
+        }
+        course = new CourseDTO(1L, "Benchmark Course 1", "Instructor 1", "40 hours", DifficultyLevel.BEGINNER,
+                "A course description long enough to look like the seeded ones in the catalog.", 50, 1, 0L);
+    }
+
+    @Benchmark
+    public byte[] serializeCourse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(course);
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog);
+    }
+}
@@ -0,0 +1,77 @@
+package com.curseando.benchmarks;
+
+import com.curseando.model.Course;
+import com.curseando.model.DifficultyLevel;
+import com.curseando.model.Student;
+import com.curseando.model.WaitlistEntry;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.repository.WaitlistEntryRepository;
+import com.curseando.service.WaitlistPromoter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * {@link WaitlistPromoter#promote} of one full batch against embedded H2: the
+ * queue head read, the batch enrollment and the queue cleanup. Before every
+ * call a fresh course gets as many free seats as waiting students, so each call
+ * promotes a whole batch. Scores are students promoted per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WaitlistPromotionBenchmark {
+
+    /** Matches the default curseando.waitlist.promotion-batch-size. */
+    private static final int BATCH = 100;
+
+    private final AtomicLong studentSequence = new AtomicLong();
+
+    private ApplicationState application;
+    private WaitlistPromoter waitlistPromoter;
+    private Long courseId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        this.application = application;
+        waitlistPromoter = application.getBean(WaitlistPromoter.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillWaitlist() {
+        Course course = application.getBean(CourseRepository.class).save(new Course("Waitlisted Course",
+                "Instructor", "40 hours", DifficultyLevel.BEGINNER, "Course with a full queue.", BATCH));
+        courseId = course.getId();
+        List<Student> students = application.getBean(StudentRepository.class).saveAll(LongStream.range(0, BATCH)
+                .map(i -> studentSequence.incrementAndGet())
+                .mapToObj(id -> new Student("Waiting Student " + id, "waiting" + id + "@bench.example.com"))
+                .toList());
+        application.getBean(WaitlistEntryRepository.class).saveAll(LongStream.range(0, BATCH)
+                .mapToObj(i -> new WaitlistEntry(course, students.get((int) i), i + 1))
+                .toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int promote() {
+        return waitlistPromoter.promote(courseId);
+    }
+}
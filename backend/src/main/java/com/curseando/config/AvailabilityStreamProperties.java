@@ -0,0 +1,75 @@
+package com.curseando.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "curseando.availability-stream")
+public class AvailabilityStreamProperties {
+
+    /** Window over which seat changes of a course are merged into a single event. */
+    private Duration coalesceWindow = Duration.ofMillis(250);
+
+    /** Interval between keep-alive comments, which also prune dead subscribers. */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /** Lifetime of a stream before the server closes it and the client reconnects. */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    /** Threads writing events to subscribers, so a slow client never holds up the scheduler. */
+    private int senderThreads = 2;
+
+    /** Events queued for one subscriber before it is dropped as too slow. */
+    private int subscriberBacklog = 64;
+
+    /** How long a single write may block before its subscriber is dropped as too slow. */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(Duration coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getEmitterTimeout() {
+        return emitterTimeout;
+    }
+
+    public void setEmitterTimeout(Duration emitterTimeout) {
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    public int getSenderThreads() {
+        return senderThreads;
+    }
+
+    public void setSenderThreads(int senderThreads) {
+        this.senderThreads = senderThreads;
+    }
+
+    public int getSubscriberBacklog() {
+        return subscriberBacklog;
+    }
+
+    public void setSubscriberBacklog(int subscriberBacklog) {
+        this.subscriberBacklog = subscriberBacklog;
+    }
+
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    public void setSendTimeout(Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+}
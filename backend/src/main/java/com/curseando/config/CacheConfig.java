@@ -0,0 +1,16 @@
+package com.curseando.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the in-process catalog cache. Cache names, size bound and TTL are set
+ * with the spring.cache.* properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATALOG_CACHE = "catalog";
+    public static final String COURSES_CACHE = "courses";
+}
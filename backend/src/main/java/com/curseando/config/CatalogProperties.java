@@ -0,0 +1,54 @@
+package com.curseando.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "curseando.catalog")
+public class CatalogProperties {
+
+    /** Upper bound on how long a prebuilt catalog snapshot is served without a rebuild. */
+    private Duration snapshotMaxAge = Duration.ofSeconds(60);
+
+    /** Page size of a cursor-paged listing when the client does not pass one. */
+    private int defaultPageSize = 20;
+
+    /** Largest page a client may ask for; bigger limits are clamped to it. */
+    private int maxPageSize = 100;
+
+    /** Snapshots at least this large keep a precompressed gzip copy. */
+    private DataSize compressionMinSize = DataSize.ofKilobytes(1);
+
+    public Duration getSnapshotMaxAge() {
+        return snapshotMaxAge;
+    }
+
+    public void setSnapshotMaxAge(Duration snapshotMaxAge) {
+        this.snapshotMaxAge = snapshotMaxAge;
+    }
+
+    public int getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    public void setDefaultPageSize(int defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public DataSize getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    public void setCompressionMinSize(DataSize compressionMinSize) {
+        this.compressionMinSize = compressionMinSize;
+    }
+}
@@ -7,6 +7,8 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 public class DataInitializer {
 
@@ -34,7 +36,6 @@ public class DataInitializer {
                 "Learn the fundamentals of Java programming language. This course covers basic syntax, object-oriented programming concepts, and hands-on projects to build your first Java applications.",
                 50);
         course1.setEnrolledCount(15);
-        courseRepository.save(course1);
 
         // Intermediate course with some spots left
         Course course2 = new Course(
@@ -45,7 +46,6 @@ public class DataInitializer {
                 "Master Spring Boot framework for building enterprise applications. Topics include REST APIs, database integration, security, and microservices architecture.",
                 30);
         course2.setEnrolledCount(28);
-        courseRepository.save(course2);
 
         // Advanced course with spots available
         Course course3 = new Course(
@@ -56,7 +56,6 @@ public class DataInitializer {
                 "Deep dive into microservices architecture patterns, containerization with Docker, orchestration with Kubernetes, and distributed system design principles.",
                 25);
         course3.setEnrolledCount(8);
-        courseRepository.save(course3);
 
         // Beginner course that's almost full
         Course course4 = new Course(
@@ -67,7 +66,6 @@ public class DataInitializer {
                 "Build modern web applications using Angular framework. Learn components, services, routing, forms, and state management. Perfect for beginners starting their web development journey.",
                 40);
         course4.setEnrolledCount(38);
-        courseRepository.save(course4);
 
         // Intermediate course with good availability
         Course course5 = new Course(
@@ -78,6 +76,8 @@ public class DataInitializer {
                 "Comprehensive course covering both backend (Spring Boot) and frontend (React) development. Build complete full-stack applications with modern best practices.",
                 35);
         course5.setEnrolledCount(12);
-        courseRepository.save(course5);
+
+        // One transaction, inserted in a single JDBC batch
+        courseRepository.saveAll(List.of(course1, course2, course3, course4, course5));
     }
 }
@@ -0,0 +1,314 @@
+package com.curseando.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "curseando.enrollment")
+public class EnrollmentProperties {
+
+    private final Retry retry = new Retry();
+
+    private final Membership membership = new Membership();
+
+    private final Admission admission = new Admission();
+
+    private final Tickets tickets = new Tickets();
+
+    private final Outbox outbox = new Outbox();
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public Membership getMembership() {
+        return membership;
+    }
+
+    public Admission getAdmission() {
+        return admission;
+    }
+
+    public Tickets getTickets() {
+        return tickets;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    /**
+     * Retries of enrollments aborted by serialization or deadlock failures.
+     */
+    public static class Retry {
+
+        /** Total attempts, including the first one. */
+        private int maxAttempts = 4;
+
+        /** Backoff ceiling before the first retry; doubles on every retry. */
+        private Duration initialBackoff = Duration.ofMillis(20);
+
+        /** Upper bound for the backoff ceiling. */
+        private Duration maxBackoff = Duration.ofMillis(500);
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+
+    /**
+     * In-memory hints used before an enrollment touches the database: known
+     * students by email and, per course, a Bloom filter of enrolled students.
+     */
+    public static class Membership {
+
+        /** Maximum number of email to student entries kept. */
+        private long studentCacheSize = 10_000;
+
+        /** Enrollments per course each filter is sized for; more only raise the false positive rate. */
+        private int expectedEnrollmentsPerCourse = 1_000;
+
+        /** Target false positive rate of each filter at the expected size. */
+        private double falsePositiveRate = 0.01;
+
+        public long getStudentCacheSize() {
+            return studentCacheSize;
+        }
+
+        public void setStudentCacheSize(long studentCacheSize) {
+            this.studentCacheSize = studentCacheSize;
+        }
+
+        public int getExpectedEnrollmentsPerCourse() {
+            return expectedEnrollmentsPerCourse;
+        }
+
+        public void setExpectedEnrollmentsPerCourse(int expectedEnrollmentsPerCourse) {
+            this.expectedEnrollmentsPerCourse = expectedEnrollmentsPerCourse;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+
+    /**
+     * Per-course queues in front of single enrollments, served by a few lanes
+     * so enrollment bursts cannot take every pooled connection.
+     */
+    public static class Admission {
+
+        /** Threads serving the queues, and so the most connections single enrollments hold at once. */
+        private int lanes = 4;
+
+        /** Requests waiting per course before new ones are turned away with 429. */
+        private int queueDepth = 200;
+
+        /** Delay suggested to rejected clients in the Retry-After header. */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        /**
+         * Most queued requests of one course a lane commits in one transaction.
+         * 1 commits every enrollment on its own; larger values turn on group commit.
+         */
+        private int groupCommitSize = 1;
+
+        /**
+         * Threads that run the work following an admission, such as waitlist
+         * joins and ticket outcomes, so lanes only write enrollments.
+         */
+        private int followUpThreads = 4;
+
+        /**
+         * How long an in-memory seat counter may answer "full" before it is
+         * reloaded from the database, so raised capacities and seats freed
+         * outside the application are picked up.
+         */
+        private Duration fullRecheckInterval = Duration.ofSeconds(1);
+
+        public int getLanes() {
+            return lanes;
+        }
+
+        public void setLanes(int lanes) {
+            this.lanes = lanes;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public void setQueueDepth(int queueDepth) {
+            this.queueDepth = queueDepth;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+
+        public int getGroupCommitSize() {
+            return groupCommitSize;
+        }
+
+        public void setGroupCommitSize(int groupCommitSize) {
+            this.groupCommitSize = groupCommitSize;
+        }
+
+        public int getFollowUpThreads() {
+            return followUpThreads;
+        }
+
+        public void setFollowUpThreads(int followUpThreads) {
+            this.followUpThreads = followUpThreads;
+        }
+
+        public Duration getFullRecheckInterval() {
+            return fullRecheckInterval;
+        }
+
+        public void setFullRecheckInterval(Duration fullRecheckInterval) {
+            this.fullRecheckInterval = fullRecheckInterval;
+        }
+    }
+
+    /**
+     * Tickets of the asynchronous enrollment API: how often pending ones are
+     * swept up and how long finished ones are kept.
+     */
+    public static class Tickets {
+
+        /** Delay between sweeps for pending tickets that are unclaimed or whose claim ran out. */
+        private Duration sweepInterval = Duration.ofSeconds(1);
+
+        /** Most pending tickets handed to the lanes by one sweep. */
+        private int sweepBatchSize = 200;
+
+        /** Age after which a claimed, unfinished ticket is considered lost and handed out again. */
+        private Duration claimTimeout = Duration.ofSeconds(30);
+
+        /** How long finished tickets can still be looked up. */
+        private Duration retention = Duration.ofHours(24);
+
+        public Duration getSweepInterval() {
+            return sweepInterval;
+        }
+
+        public void setSweepInterval(Duration sweepInterval) {
+            this.sweepInterval = sweepInterval;
+        }
+
+        public int getSweepBatchSize() {
+            return sweepBatchSize;
+        }
+
+        public void setSweepBatchSize(int sweepBatchSize) {
+            this.sweepBatchSize = sweepBatchSize;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+    }
+
+    /**
+     * Relay of enrollment events from the outbox table to downstream consumers.
+     */
+    public static class Outbox {
+
+        /** Delay between relay runs; each run drains the outbox, up to {@code maxBatchesPerRun}. */
+        private Duration relayInterval = Duration.ofMillis(500);
+
+        /** Most events published and deleted in one relay transaction. */
+        private int batchSize = 500;
+
+        /** Most batches one run publishes before leaving the rest to the next run. */
+        private int maxBatchesPerRun = 20;
+
+        /** Where events go: in-process (application event listeners) or file (JSON lines). */
+        private String sink = "in-process";
+
+        /** File appended to by the file sink. */
+        private Path file = Path.of("enrollment-events.jsonl");
+
+        public Duration getRelayInterval() {
+            return relayInterval;
+        }
+
+        public void setRelayInterval(Duration relayInterval) {
+            this.relayInterval = relayInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxBatchesPerRun() {
+            return maxBatchesPerRun;
+        }
+
+        public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+            this.maxBatchesPerRun = maxBatchesPerRun;
+        }
+
+        public String getSink() {
+            return sink;
+        }
+
+        public void setSink(String sink) {
+            this.sink = sink;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public void setFile(Path file) {
+            this.file = file;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.curseando.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables background tasks such as the coalesced seat availability flush.
+ * They share the scheduler sized by {@code spring.task.scheduling.pool.size}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,52 @@
+package com.curseando.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active only when requests run on virtual threads (the "virtual" profile on a
+ * Java 21 build). Puts a {@link ConcurrencyLimitedDataSource} sized to the
+ * Hikari pool in front of it, so the unbounded number of request threads
+ * queues on a fair semaphore rather than in connection acquisition.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimiterPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConcurrencyLimitedDataSource(hikari, hikari.getMaximumPoolSize(),
+                            Duration.ofMillis(hikari.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limiter) {
+                Gauge.builder("jdbc.connections.limiter.active", limiter, ConcurrencyLimitedDataSource::getActive)
+                        .description("Connections currently handed out through the limiter")
+                        .register(registry);
+                Gauge.builder("jdbc.connections.limiter.waiting", limiter, ConcurrencyLimitedDataSource::getWaiting)
+                        .description("Threads parked waiting for a connection slot")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.curseando.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "curseando.waitlist")
+public class WaitlistProperties {
+
+    /** Delay between promotion runs; each run serves every course with free seats and a queue. */
+    private Duration promotionInterval = Duration.ofSeconds(1);
+
+    /** Most waitlisted students enrolled per course in one promotion transaction. */
+    private int promotionBatchSize = 100;
+
+    public Duration getPromotionInterval() {
+        return promotionInterval;
+    }
+
+    public void setPromotionInterval(Duration promotionInterval) {
+        this.promotionInterval = promotionInterval;
+    }
+
+    public int getPromotionBatchSize() {
+        return promotionBatchSize;
+    }
+
+    public void setPromotionBatchSize(int promotionBatchSize) {
+        this.promotionBatchSize = promotionBatchSize;
+    }
+}
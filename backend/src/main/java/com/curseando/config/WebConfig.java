@@ -13,6 +13,7 @@ public class WebConfig implements WebMvcConfigurer {
                                 .allowedOrigins("http://localhost:4200", "http://frontend:80")
                                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                                 .allowedHeaders("*")
+                                .exposedHeaders("ETag")
                                 .allowCredentials(true);
 
                 // Allow Swagger UI and API docs
@@ -1,20 +1,31 @@
 package com.curseando.controller;
 
+import com.curseando.config.CatalogProperties;
 import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CoursePage;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.dto.SeatAvailabilityDTO;
 import com.curseando.model.DifficultyLevel;
+import com.curseando.service.CatalogSnapshot;
+import com.curseando.service.CatalogSnapshotService;
 import com.curseando.service.CourseService;
+import com.curseando.service.SeatAvailabilityBroadcaster;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.util.ArrayList;
 
 @RestController
 @RequestMapping("/api/courses")
@@ -22,37 +33,146 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+    private final CatalogProperties catalogProperties;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, CatalogSnapshotService catalogSnapshotService,
+            SeatAvailabilityBroadcaster seatAvailabilityBroadcaster, CatalogProperties catalogProperties) {
         this.courseService = courseService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.seatAvailabilityBroadcaster = seatAvailabilityBroadcaster;
+        this.catalogProperties = catalogProperties;
     }
 
     @GetMapping
-    @Operation(summary = "Get all courses", description = "Retrieve a list of all courses. Optionally filter by difficulty level.", tags = {
-            "Courses" })
+    @Operation(summary = "Get all courses", description = "Retrieve a list of all courses as summaries, with a description teaser instead of the full text. Optionally filter by difficulty level. Supports conditional requests with If-None-Match. "
+            + "Passing 'limit', 'after' or 'available' switches to a cursor-paged response ordered by ID instead of the full array.", tags = {
+                    "Courses" })
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved courses", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CourseDTO.class)))),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved courses: an array, or a CoursePage when paging", content = @Content(mediaType = "application/json", schema = @Schema(oneOf = { CourseSummaryList.class, CoursePage.class }))),
+            @ApiResponse(responseCode = "304", description = "Catalog view unchanged since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
     })
-    public ResponseEntity<List<CourseDTO>> getAllCourses(
-            @Parameter(description = "Filter by difficulty level", example = "BEGINNER") @RequestParam(required = false) DifficultyLevel difficulty) {
-        List<CourseDTO> courses = difficulty != null
-                ? courseService.findByDifficulty(difficulty)
-                : courseService.findAll();
-        return ResponseEntity.ok(courses);
+    public ResponseEntity<?> getAllCourses(
+            @Parameter(description = "Filter by difficulty level", example = "BEGINNER") @RequestParam(required = false) DifficultyLevel difficulty,
+            @Parameter(description = "Cursor: return courses with an ID greater than this (the previous page's nextCursor)", example = "20") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size, clamped to the configured maximum", example = "20") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Only courses with seats left", example = "true") @RequestParam(required = false) Boolean available,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (after != null || limit != null || available != null) {
+            return ResponseEntity.ok(courseService.findPage(after, pageSize(limit), difficulty,
+                    Boolean.TRUE.equals(available)));
+        }
+        // Served from prebuilt JSON: no per-request serialization
+        CatalogSnapshot snapshot = difficulty != null
+                ? catalogSnapshotService.getByDifficulty(difficulty)
+                : catalogSnapshotService.getAll();
+        // A matching If-None-Match turns this into a bodiless 304
+        if (snapshot.getGzip() != null && acceptsGzip(acceptEncoding)) {
+            // Precompressed at build time; Tomcat leaves responses that already have a Content-Encoding alone
+            return ResponseEntity.ok()
+                    .eTag(snapshot.getGzipEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshot.getGzip());
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get course by ID", description = "Retrieve a specific course by its unique identifier", tags = {
+    @Operation(summary = "Get course by ID", description = "Retrieve a specific course by its unique identifier. Supports conditional requests with If-None-Match.", tags = {
             "Courses" })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Course found", content = @Content(schema = @Schema(implementation = CourseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Course unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Course not found", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
     })
     public ResponseEntity<CourseDTO> getCourseById(
             @Parameter(description = "Course ID", required = true, example = "1") @PathVariable Long id) {
         return courseService.findById(id)
-                .map(ResponseEntity::ok)
+                .map(course -> ResponseEntity.ok()
+                        .eTag(etagFor(course))
+                        .cacheControl(CacheControl.noCache())
+                        .body(course))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @GetMapping(path = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream seat availability of all courses", description = "Server-Sent Events stream of availability events, one per course at subscription and then one per changed course, coalesced over a short window", tags = {
+            "Courses" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened", content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = SeatAvailabilityDTO.class)))
+    })
+    public SseEmitter streamAllAvailability() {
+        return seatAvailabilityBroadcaster.subscribeAll();
+    }
+
+    @GetMapping(path = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream seat availability of a course", description = "Server-Sent Events stream starting with the current availability, then one event per change, coalesced over a short window", tags = {
+            "Courses" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened", content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = SeatAvailabilityDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
+    })
+    public SseEmitter streamAvailability(
+            @Parameter(description = "Course ID", required = true, example = "1") @PathVariable Long id) {
+        return seatAvailabilityBroadcaster.subscribe(id);
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return catalogProperties.getDefaultPageSize();
+        }
+        return Math.max(1, Math.min(limit, catalogProperties.getMaxPageSize()));
+    }
+
+    /**
+     * True if Accept-Encoding lists gzip (or *) without refusing it via q=0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].trim().matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The unpaged body of {@link #getAllCourses}, named for the OpenAPI oneOf:
+     * a plain array class is not resolved there.
+     */
+    @JsonIgnoreProperties("empty")
+    private static final class CourseSummaryList extends ArrayList<CourseSummaryDTO> {
+    }
+
+    /**
+     * Weak, so Tomcat still compresses the body: it leaves responses with a
+     * strong ETag alone, since their bytes must not change. If-None-Match uses
+     * the weak comparison anyway.
+     */
+    private static String etagFor(CourseDTO course) {
+        return course.getVersion() != null
+                ? "W/\"course-" + course.getId() + "-v" + course.getVersion() + "\""
+                : null;
+    }
 }
@@ -1,8 +1,17 @@
 package com.curseando.controller;
 
+import com.curseando.dto.BatchEnrollmentRequest;
+import com.curseando.dto.BatchEnrollmentResponse;
 import com.curseando.dto.EnrollmentRequest;
 import com.curseando.dto.EnrollmentResponse;
-import com.curseando.service.EnrollmentService;
+import com.curseando.dto.EnrollmentTicketResponse;
+import com.curseando.dto.WaitlistPositionResponse;
+import com.curseando.exception.CourseFullException;
+import com.curseando.service.BatchEnrollmentService;
+import com.curseando.service.EnrollmentAdmissionQueue;
+import com.curseando.service.EnrollmentTicketService;
+import com.curseando.service.WaitlistService;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,30 +23,114 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/enrollments")
 @Tag(name = "Enrollments", description = "Enrollment management API")
 public class EnrollmentController {
 
-    private final EnrollmentService enrollmentService;
+    private final BatchEnrollmentService batchEnrollmentService;
+    private final WaitlistService waitlistService;
+    private final EnrollmentAdmissionQueue admissionQueue;
+    private final EnrollmentTicketService ticketService;
 
-    public EnrollmentController(EnrollmentService enrollmentService) {
-        this.enrollmentService = enrollmentService;
+    public EnrollmentController(BatchEnrollmentService batchEnrollmentService, WaitlistService waitlistService,
+            EnrollmentAdmissionQueue admissionQueue, EnrollmentTicketService ticketService) {
+        this.batchEnrollmentService = batchEnrollmentService;
+        this.waitlistService = waitlistService;
+        this.admissionQueue = admissionQueue;
+        this.ticketService = ticketService;
     }
 
     @PostMapping
-    @Operation(summary = "Enroll in a course", description = "Enroll a student in a specific course. Validates course capacity and duplicate enrollment.", tags = {
+    @Operation(summary = "Enroll in a course", description = "Enroll a student in a specific course. Validates duplicate enrollment; a full course puts the student on its waitlist instead. Requests wait in a bounded per-course queue and are refused with 429 when it is full.", tags = {
             "Enrollments" })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Successfully enrolled", content = @Content(schema = @Schema(implementation = EnrollmentResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Course full, student waitlisted", content = @Content(schema = @Schema(implementation = WaitlistPositionResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Course not found", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class))),
-            @ApiResponse(responseCode = "409", description = "Course full or duplicate enrollment", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
+            @ApiResponse(responseCode = "409", description = "Duplicate enrollment", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too many requests queued for this course, retry after the Retry-After delay", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Enrollment aborted under contention, retry after the Retry-After delay", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
     })
-    public ResponseEntity<EnrollmentResponse> enroll(
+    public CompletableFuture<ResponseEntity<?>> enroll(
             @RequestBody(description = "Enrollment request", required = true, content = @Content(schema = @Schema(implementation = EnrollmentRequest.class))) @Valid @org.springframework.web.bind.annotation.RequestBody EnrollmentRequest request) {
-        EnrollmentResponse response = enrollmentService.enroll(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        // The servlet thread is released while the request waits for its lane
+        return admissionQueue.submit(request)
+                .<ResponseEntity<?>>thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response))
+                // Joining the waitlist is a transaction of its own; keep it off the lane
+                .exceptionallyAsync(ex -> joinWaitlistIfFull(request, ex), admissionQueue.followUps());
+    }
+
+    private ResponseEntity<?> joinWaitlistIfFull(EnrollmentRequest request, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof CourseFullException) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(waitlistService.join(request));
+        }
+        // Unwrapped again by Spring MVC and handed to GlobalExceptionHandler
+        throw ex instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
+
+    @PostMapping("/async")
+    @Operation(summary = "Enroll in a course asynchronously", description = "Stores the enrollment request and returns a ticket right away. The enrollment is processed in the background; poll the ticket for the outcome.", tags = {
+            "Enrollments" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Request accepted, see the Location header for the ticket", content = @Content(schema = @Schema(implementation = EnrollmentTicketResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Course ID missing", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
+    })
+    public ResponseEntity<EnrollmentTicketResponse> enrollAsync(
+            @RequestBody(description = "Enrollment request", required = true, content = @Content(schema = @Schema(implementation = EnrollmentRequest.class))) @Valid @org.springframework.web.bind.annotation.RequestBody EnrollmentRequest request) {
+        EnrollmentTicketResponse ticket = ticketService.submit(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/enrollments/tickets/{id}")
+                .buildAndExpand(ticket.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(ticket);
+    }
+
+    @GetMapping("/tickets/{id}")
+    @Operation(summary = "Get an enrollment ticket", description = "Outcome of an asynchronous enrollment: PENDING until processed, then ENROLLED with the enrollment, WAITLISTED with the waitlist position, or REJECTED with the reason.", tags = {
+            "Enrollments" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ticket found", content = @Content(schema = @Schema(implementation = EnrollmentTicketResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Ticket not found or already purged", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
+    })
+    public ResponseEntity<EnrollmentTicketResponse> getTicket(
+            @Parameter(description = "Ticket ID", required = true) @PathVariable UUID id) {
+        return ResponseEntity.ok(ticketService.getTicket(id));
+    }
+
+    @GetMapping("/waitlist")
+    @Operation(summary = "Get a waitlist position", description = "Current place of a student on a full course's waitlist; 1 is promoted next.", tags = {
+            "Enrollments" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Student is waiting", content = @Content(schema = @Schema(implementation = WaitlistPositionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Student is not on this waitlist (never joined, or already promoted)", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
+    })
+    public ResponseEntity<WaitlistPositionResponse> getWaitlistPosition(
+            @Parameter(description = "Course ID", required = true) @RequestParam Long courseId,
+            @Parameter(description = "Student email", required = true) @RequestParam String email) {
+        return ResponseEntity.ok(waitlistService.getPosition(courseId, email));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Enroll many students at once", description = "Enroll a cohort of students, possibly across several courses, in one transaction. Each enrollment gets its own result: enrolled, course full, duplicate or course not found.", tags = {
+            "Enrollments" })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the per-item results", content = @Content(schema = @Schema(implementation = BatchEnrollmentResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Batch aborted under contention, retry after the Retry-After delay", content = @Content(schema = @Schema(implementation = com.curseando.exception.ErrorResponse.class)))
+    })
+    public ResponseEntity<BatchEnrollmentResponse> enrollBatch(
+            @RequestBody(description = "Batch enrollment request", required = true, content = @Content(schema = @Schema(implementation = BatchEnrollmentRequest.class))) @Valid @org.springframework.web.bind.annotation.RequestBody BatchEnrollmentRequest request) {
+        return ResponseEntity.ok(batchEnrollmentService.enrollAll(request.getEnrollments()));
     }
 }
@@ -0,0 +1,87 @@
+package com.curseando.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one enrollment of a batch")
+public class BatchEnrollmentItemResult {
+
+    @Schema(description = "Position of the enrollment in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Student email", example = "jane.smith@example.com")
+    private String email;
+
+    @Schema(description = "Outcome", example = "ENROLLED")
+    private BatchEnrollmentStatus status;
+
+    @Schema(description = "Enrollment ID when enrolled", example = "42")
+    private Long enrollmentId;
+
+    @Schema(description = "Reason when not enrolled", example = "Course with ID 1 is full")
+    private String message;
+
+    public BatchEnrollmentItemResult() {
+    }
+
+    public BatchEnrollmentItemResult(int index, Long courseId, String email,
+            BatchEnrollmentStatus status, Long enrollmentId, String message) {
+        this.index = index;
+        this.courseId = courseId;
+        this.email = email;
+        this.status = status;
+        this.enrollmentId = enrollmentId;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public BatchEnrollmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchEnrollmentStatus status) {
+        this.status = status;
+    }
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(Long enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
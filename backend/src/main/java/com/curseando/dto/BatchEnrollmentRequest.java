@@ -0,0 +1,36 @@
+package com.curseando.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Batch enrollment request, e.g. a cohort uploaded by a partner school")
+public class BatchEnrollmentRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @ArraySchema(schema = @Schema(implementation = EnrollmentRequest.class), maxItems = MAX_ITEMS)
+    @NotEmpty(message = "At least one enrollment is required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " enrollments per batch")
+    private List<@Valid EnrollmentRequest> enrollments;
+
+    public BatchEnrollmentRequest() {
+    }
+
+    public BatchEnrollmentRequest(List<EnrollmentRequest> enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    // Getters and Setters
+    public List<EnrollmentRequest> getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(List<EnrollmentRequest> enrollments) {
+        this.enrollments = enrollments;
+    }
+}
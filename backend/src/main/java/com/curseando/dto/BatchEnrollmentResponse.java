@@ -0,0 +1,53 @@
+package com.curseando.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch enrollment response with one result per requested enrollment, in request order")
+public class BatchEnrollmentResponse {
+
+    @Schema(description = "Number of enrollments created", example = "120")
+    private int enrolled;
+
+    @Schema(description = "Number of enrollments rejected", example = "3")
+    private int rejected;
+
+    private List<BatchEnrollmentItemResult> results;
+
+    public BatchEnrollmentResponse() {
+    }
+
+    public BatchEnrollmentResponse(List<BatchEnrollmentItemResult> results) {
+        this.results = results;
+        this.enrolled = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchEnrollmentStatus.ENROLLED)
+                .count();
+        this.rejected = results.size() - enrolled;
+    }
+
+    // Getters and Setters
+    public int getEnrolled() {
+        return enrolled;
+    }
+
+    public void setEnrolled(int enrolled) {
+        this.enrolled = enrolled;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BatchEnrollmentItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchEnrollmentItemResult> results) {
+        this.results = results;
+    }
+}
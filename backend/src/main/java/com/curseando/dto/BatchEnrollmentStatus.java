@@ -0,0 +1,8 @@
+package com.curseando.dto;
+
+public enum BatchEnrollmentStatus {
+    ENROLLED,
+    COURSE_FULL,
+    DUPLICATE,
+    COURSE_NOT_FOUND
+}
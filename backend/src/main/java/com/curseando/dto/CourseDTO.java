@@ -1,6 +1,7 @@
 package com.curseando.dto;
 
 import com.curseando.model.DifficultyLevel;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Course information")
@@ -31,6 +32,9 @@ public class CourseDTO {
     @Schema(description = "Current number of enrolled students", example = "25", minimum = "0")
     private Integer enrolledCount;
 
+    @JsonIgnore
+    private Long version;
+
     public CourseDTO() {
     }
 
@@ -47,6 +51,13 @@ public class CourseDTO {
         this.enrolledCount = enrolledCount;
     }
 
+    public CourseDTO(Long id, String title, String instructor, String duration,
+            DifficultyLevel difficulty, String description,
+            Integer maxCapacity, Integer enrolledCount, Long version) {
+        this(id, title, instructor, duration, difficulty, description, maxCapacity, enrolledCount);
+        this.version = version;
+    }
+
     @Schema(description = "Available spots", example = "25", readOnly = true)
     public Integer getAvailableSpots() {
         return maxCapacity - enrolledCount;
@@ -116,4 +127,12 @@ public class CourseDTO {
     public void setEnrolledCount(Integer enrolledCount) {
         this.enrolledCount = enrolledCount;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
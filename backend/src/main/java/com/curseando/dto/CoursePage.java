@@ -0,0 +1,39 @@
+package com.curseando.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of courses ordered by ID, with the cursor for the next page")
+public class CoursePage {
+
+    private List<CourseSummaryDTO> items;
+
+    @Schema(description = "Pass as 'after' to fetch the next page; null on the last page", example = "20", nullable = true)
+    private Long nextCursor;
+
+    public CoursePage() {
+    }
+
+    public CoursePage(List<CourseSummaryDTO> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<CourseSummaryDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CourseSummaryDTO> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,135 @@
+package com.curseando.dto;
+
+import com.curseando.model.DifficultyLevel;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Course list entry: the course without its full description, which only GET /api/courses/{id} returns")
+public class CourseSummaryDTO {
+
+    /** Characters of the description kept as the teaser, cut in the query. */
+    public static final int TEASER_LENGTH = 160;
+
+    @Schema(description = "Course unique identifier", example = "1")
+    private Long id;
+
+    @Schema(description = "Course title", example = "Introduction to Java")
+    private String title;
+
+    @Schema(description = "Instructor name", example = "John Doe")
+    private String instructor;
+
+    @Schema(description = "Course duration", example = "40 hours")
+    private String duration;
+
+    @Schema(description = "Difficulty level", example = "BEGINNER", allowableValues = { "BEGINNER", "INTERMEDIATE",
+            "ADVANCED" })
+    private DifficultyLevel difficulty;
+
+    @Schema(description = "First " + TEASER_LENGTH + " characters of the description", example = "Learn Java programming fundamentals")
+    private String teaser;
+
+    @Schema(description = "Maximum enrollment capacity", example = "50", minimum = "1")
+    private Integer maxCapacity;
+
+    @Schema(description = "Current number of enrolled students", example = "25", minimum = "0")
+    private Integer enrolledCount;
+
+    @JsonIgnore
+    private Long version;
+
+    public CourseSummaryDTO() {
+    }
+
+    public CourseSummaryDTO(Long id, String title, String instructor, String duration,
+            DifficultyLevel difficulty, String teaser,
+            Integer maxCapacity, Integer enrolledCount, Long version) {
+        this.id = id;
+        this.title = title;
+        this.instructor = instructor;
+        this.duration = duration;
+        this.difficulty = difficulty;
+        this.teaser = teaser;
+        this.maxCapacity = maxCapacity;
+        this.enrolledCount = enrolledCount;
+        this.version = version;
+    }
+
+    @Schema(description = "Available spots", example = "25", readOnly = true)
+    public Integer getAvailableSpots() {
+        return maxCapacity - enrolledCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getInstructor() {
+        return instructor;
+    }
+
+    public void setInstructor(String instructor) {
+        this.instructor = instructor;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    public void setDuration(String duration) {
+        this.duration = duration;
+    }
+
+    public DifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(DifficultyLevel difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public String getTeaser() {
+        return teaser;
+    }
+
+    public void setTeaser(String teaser) {
+        this.teaser = teaser;
+    }
+
+    public Integer getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    public void setMaxCapacity(Integer maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    public Integer getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public void setEnrolledCount(Integer enrolledCount) {
+        this.enrolledCount = enrolledCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
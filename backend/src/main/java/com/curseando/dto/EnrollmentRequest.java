@@ -1,10 +1,13 @@
 package com.curseando.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.UUID;
+
 @Schema(description = "Enrollment request")
 public class EnrollmentRequest {
 
@@ -21,6 +24,11 @@ public class EnrollmentRequest {
     @Email(message = "Email must be valid")
     private String email;
 
+    /** Set by the asynchronous API on the requests it dispatches; never read from clients. */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private UUID ticketId;
+
     public EnrollmentRequest() {
     }
 
@@ -54,4 +62,12 @@ public class EnrollmentRequest {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    public UUID getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(UUID ticketId) {
+        this.ticketId = ticketId;
+    }
 }
@@ -0,0 +1,125 @@
+package com.curseando.dto;
+
+import com.curseando.model.EnrollmentTicketStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "State of an enrollment submitted through the asynchronous API")
+public class EnrollmentTicketResponse {
+
+    @Schema(description = "Ticket ID", example = "3f1c2b9e-8d4a-4a57-9e0b-2c6d7f1a5b10")
+    private UUID id;
+
+    @Schema(description = "PENDING until processed, then ENROLLED, WAITLISTED or REJECTED", example = "ENROLLED")
+    private EnrollmentTicketStatus status;
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Student email", example = "jane.smith@example.com")
+    private String studentEmail;
+
+    @Schema(description = "The enrollment, when ENROLLED")
+    private EnrollmentResponse enrollment;
+
+    @Schema(description = "Waitlist position when the student joined it, when WAITLISTED", example = "3")
+    private Long waitlistPosition;
+
+    @Schema(description = "Error type, when REJECTED", example = "DuplicateEnrollmentException")
+    private String error;
+
+    @Schema(description = "Reason, when REJECTED", example = "Student with email jane.smith@example.com is already enrolled in this course")
+    private String message;
+
+    @Schema(description = "When the ticket was accepted", example = "2024-01-15T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the ticket was processed", example = "2024-01-15T10:30:01")
+    private LocalDateTime completedAt;
+
+    public EnrollmentTicketResponse() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public EnrollmentTicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentTicketStatus status) {
+        this.status = status;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    public void setStudentEmail(String studentEmail) {
+        this.studentEmail = studentEmail;
+    }
+
+    public EnrollmentResponse getEnrollment() {
+        return enrollment;
+    }
+
+    public void setEnrollment(EnrollmentResponse enrollment) {
+        this.enrollment = enrollment;
+    }
+
+    public Long getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public void setWaitlistPosition(Long waitlistPosition) {
+        this.waitlistPosition = waitlistPosition;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.curseando.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Seat availability update pushed on the availability streams")
+public class SeatAvailabilityDTO {
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Available spots remaining", example = "24")
+    private Integer availableSpots;
+
+    public SeatAvailabilityDTO() {
+    }
+
+    public SeatAvailabilityDTO(Long courseId, Integer availableSpots) {
+        this.courseId = courseId;
+        this.availableSpots = availableSpots;
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getAvailableSpots() {
+        return availableSpots;
+    }
+
+    public void setAvailableSpots(Integer availableSpots) {
+        this.availableSpots = availableSpots;
+    }
+}
@@ -0,0 +1,63 @@
+package com.curseando.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Place of a student on a full course's waitlist")
+public class WaitlistPositionResponse {
+
+    public static final String WAITLISTED = "WAITLISTED";
+
+    @Schema(description = "Course ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "Student email", example = "jane.smith@example.com")
+    private String studentEmail;
+
+    @Schema(description = "Position in the queue, 1 is promoted next", example = "3")
+    private Long position;
+
+    @Schema(description = "Always WAITLISTED; tells this response apart from an enrollment", example = WAITLISTED)
+    private String status = WAITLISTED;
+
+    public WaitlistPositionResponse() {
+    }
+
+    public WaitlistPositionResponse(Long courseId, String studentEmail, Long position) {
+        this.courseId = courseId;
+        this.studentEmail = studentEmail;
+        this.position = position;
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    public void setStudentEmail(String studentEmail) {
+        this.studentEmail = studentEmail;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,9 @@
+package com.curseando.event;
+
+/**
+ * Published inside the enrollment transaction whenever a course's enrolled
+ * count changes. Listeners that keep derived read state (caches, snapshots)
+ * should react after commit.
+ */
+public record CourseSeatsChangedEvent(Long courseId) {
+}
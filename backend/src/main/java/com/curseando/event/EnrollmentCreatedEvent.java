@@ -0,0 +1,12 @@
+package com.curseando.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * An enrollment as announced to downstream systems by the outbox relay.
+ * Delivery is at least once: the same event may arrive again after a relay
+ * failure, and consumers can drop repeats by {@code eventId}.
+ */
+public record EnrollmentCreatedEvent(Long eventId, Long enrollmentId, Long courseId, Long studentId,
+        String studentEmail, LocalDateTime enrolledAt) {
+}
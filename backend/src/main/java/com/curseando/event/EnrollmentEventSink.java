@@ -0,0 +1,18 @@
+package com.curseando.event;
+
+import java.util.List;
+
+/**
+ * Destination of the enrollment events relayed from the outbox, picked with
+ * {@code curseando.enrollment.outbox.sink}. To plug in another one, declare it
+ * as a bean and set the property to a value no built-in sink answers to.
+ */
+public interface EnrollmentEventSink {
+
+    /**
+     * Publishes a batch of events in outbox order. Returning means the batch is
+     * delivered and may be deleted; throwing keeps all of it in the outbox for
+     * the next relay run.
+     */
+    void publish(List<EnrollmentCreatedEvent> events);
+}
@@ -0,0 +1,56 @@
+package com.curseando.event;
+
+import com.curseando.config.EnrollmentProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each event as one JSON line to {@code curseando.enrollment.outbox.file},
+ * for consumers that tail the file. A batch is forced to disk before the relay
+ * deletes it from the outbox; a crash in between repeats the batch.
+ */
+@Component
+@ConditionalOnProperty(name = "curseando.enrollment.outbox.sink", havingValue = "file")
+public class FileEnrollmentEventSink implements EnrollmentEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileEnrollmentEventSink(ObjectMapper objectMapper, EnrollmentProperties properties) {
+        this.objectMapper = objectMapper;
+        this.file = properties.getOutbox().getFile();
+    }
+
+    @Override
+    public synchronized void publish(List<EnrollmentCreatedEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (EnrollmentCreatedEvent event : events) {
+            try {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not serialize enrollment event " + event.eventId(), ex);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append enrollment events to " + file, ex);
+        }
+    }
+}
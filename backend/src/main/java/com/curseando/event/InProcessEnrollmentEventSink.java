@@ -0,0 +1,28 @@
+package com.curseando.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands each event to the application's {@code @EventListener}s for
+ * {@link EnrollmentCreatedEvent}. Listeners run on the relay thread, inside its
+ * transaction: one that throws sends the whole batch again on the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "curseando.enrollment.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessEnrollmentEventSink implements EnrollmentEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessEnrollmentEventSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<EnrollmentCreatedEvent> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,8 @@
+package com.curseando.exception;
+
+public class EnrollmentContentionException extends RuntimeException {
+
+    public EnrollmentContentionException(Throwable cause) {
+        super("Enrollment could not be completed due to high demand, please retry shortly", cause);
+    }
+}
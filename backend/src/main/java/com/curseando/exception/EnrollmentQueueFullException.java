@@ -0,0 +1,17 @@
+package com.curseando.exception;
+
+import java.time.Duration;
+
+public class EnrollmentQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public EnrollmentQueueFullException(Long courseId, Duration retryAfter) {
+        super("Too many enrollment requests for course with ID " + courseId + ", please retry shortly");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,10 @@
+package com.curseando.exception;
+
+import java.util.UUID;
+
+public class EnrollmentTicketNotFoundException extends RuntimeException {
+
+    public EnrollmentTicketNotFoundException(UUID id) {
+        super("Enrollment ticket not found with id: " + id);
+    }
+}
@@ -1,5 +1,6 @@
 package com.curseando.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -28,6 +29,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWaitlistEntryNotFound(WaitlistEntryNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("WaitlistEntryNotFoundException", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(EnrollmentTicketNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleEnrollmentTicketNotFound(EnrollmentTicketNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("EnrollmentTicketNotFoundException", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(CourseFullException.class)
     public ResponseEntity<ErrorResponse> handleCourseFull(CourseFullException ex) {
         ErrorResponse errorResponse = new ErrorResponse("CourseFullException", ex.getMessage());
@@ -40,6 +53,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(EnrollmentContentionException.class)
+    public ResponseEntity<ErrorResponse> handleEnrollmentContention(EnrollmentContentionException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("EnrollmentContentionException", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(EnrollmentQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleEnrollmentQueueFull(EnrollmentQueueFullException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("EnrollmentQueueFullException", ex.getMessage());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         ErrorResponse errorResponse = new ErrorResponse("Internal Server Error",
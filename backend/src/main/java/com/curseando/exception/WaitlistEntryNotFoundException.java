@@ -0,0 +1,8 @@
+package com.curseando.exception;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+
+    public WaitlistEntryNotFoundException(Long courseId, String email) {
+        super("Student with email " + email + " is not on the waitlist of course " + courseId);
+    }
+}
@@ -9,7 +9,8 @@ import java.util.List;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -34,6 +35,11 @@ public class Course {
     @Column(nullable = false)
     private Integer enrolledCount = 0;
 
+    // Bumped on every change, including enrollments; drives course and catalog ETags
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Enrollment> enrollments = new ArrayList<>();
 
@@ -116,6 +122,14 @@ public class Course {
         this.enrolledCount = enrolledCount;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<Enrollment> getEnrollments() {
         return enrollments;
     }
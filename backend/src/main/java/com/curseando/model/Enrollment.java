@@ -2,13 +2,22 @@ package com.curseando.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "enrollments", uniqueConstraints = @UniqueConstraint(columnNames = { "course_id", "student_id" }))
+@Table(name = "enrollments", uniqueConstraints = @UniqueConstraint(name = Enrollment.COURSE_STUDENT_CONSTRAINT, columnNames = {
+        "course_id", "student_id" }))
 public class Enrollment {
 
+    /** Unique constraint that rejects a second enrollment of a student in a course. */
+    public static final String COURSE_STUDENT_CONSTRAINT = "uk_enrollments_course_student";
+
+    /** Foreign key that rejects an enrollment of a student that does not exist. */
+    public static final String STUDENT_FOREIGN_KEY = "fk_enrollments_student";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,12 +25,16 @@ public class Enrollment {
     private Course course;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "student_id", nullable = false)
+    @JoinColumn(name = "student_id", nullable = false, foreignKey = @ForeignKey(name = Enrollment.STUDENT_FOREIGN_KEY))
     private Student student;
 
     @Column(name = "enrollment_date", nullable = false)
     private LocalDateTime enrollmentDate = LocalDateTime.now();
 
+    /** Asynchronous enrollment ticket this enrollment was made for, if any. */
+    @Column(name = "ticket_id")
+    private UUID ticketId;
+
     public Enrollment() {
     }
 
@@ -63,4 +76,12 @@ public class Enrollment {
     public void setEnrollmentDate(LocalDateTime enrollmentDate) {
         this.enrollmentDate = enrollmentDate;
     }
+
+    public UUID getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(UUID ticketId) {
+        this.ticketId = ticketId;
+    }
 }
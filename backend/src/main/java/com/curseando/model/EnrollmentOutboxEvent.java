@@ -0,0 +1,115 @@
+package com.curseando.model;
+
+import com.curseando.event.EnrollmentCreatedEvent;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * An enrollment not yet announced to downstream systems. It is written in the
+ * same transaction as the enrollment, so it exists exactly when the enrollment
+ * committed, and deleted by the relay once the event is published.
+ */
+@Entity
+@Table(name = "enrollment_outbox")
+public class EnrollmentOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_outbox_seq")
+    @SequenceGenerator(name = "enrollment_outbox_seq", sequenceName = "enrollment_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "enrollment_id", nullable = false)
+    private Long enrollmentId;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "student_email", nullable = false)
+    private String studentEmail;
+
+    @Column(name = "enrolled_at", nullable = false)
+    private LocalDateTime enrolledAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public EnrollmentOutboxEvent() {
+    }
+
+    /**
+     * Reads only ids from the course and student, so lazy references are not
+     * loaded.
+     */
+    public EnrollmentOutboxEvent(Enrollment enrollment, String studentEmail) {
+        this.enrollmentId = enrollment.getId();
+        this.courseId = enrollment.getCourse().getId();
+        this.studentId = enrollment.getStudent().getId();
+        this.studentEmail = studentEmail;
+        this.enrolledAt = enrollment.getEnrollmentDate();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public EnrollmentCreatedEvent toEvent() {
+        return new EnrollmentCreatedEvent(id, enrollmentId, courseId, studentId, studentEmail, enrolledAt);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(Long enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentEmail() {
+        return studentEmail;
+    }
+
+    public void setStudentEmail(String studentEmail) {
+        this.studentEmail = studentEmail;
+    }
+
+    public LocalDateTime getEnrolledAt() {
+        return enrolledAt;
+    }
+
+    public void setEnrolledAt(LocalDateTime enrolledAt) {
+        this.enrolledAt = enrolledAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.curseando.model;
+
+public enum EnrollmentTicketStatus {
+    PENDING,
+    ENROLLED,
+    WAITLISTED,
+    REJECTED
+}
@@ -0,0 +1,92 @@
+package com.curseando.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A student waiting for a seat in a full course. Tickets are handed out in
+ * arrival order per course and the lowest ticket is promoted first, so a
+ * student's position is their ticket minus the course's lowest ticket.
+ */
+@Entity
+@Table(name = "waitlist_entries", uniqueConstraints = {
+        @UniqueConstraint(name = WaitlistEntry.COURSE_STUDENT_CONSTRAINT, columnNames = { "course_id", "student_id" }),
+        @UniqueConstraint(name = WaitlistEntry.COURSE_TICKET_CONSTRAINT, columnNames = { "course_id", "ticket" }) })
+public class WaitlistEntry {
+
+    /** Unique constraint that keeps a student on a course's waitlist once. */
+    public static final String COURSE_STUDENT_CONSTRAINT = "uk_waitlist_course_student";
+
+    /** Unique constraint that keeps tickets of a course distinct. */
+    public static final String COURSE_TICKET_CONSTRAINT = "uk_waitlist_course_ticket";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entry_seq")
+    @SequenceGenerator(name = "waitlist_entry_seq", sequenceName = "waitlist_entries_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private Course course;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @Column(nullable = false)
+    private Long ticket;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt = LocalDateTime.now();
+
+    public WaitlistEntry() {
+    }
+
+    public WaitlistEntry(Course course, Student student, Long ticket) {
+        this.course = course;
+        this.student = student;
+        this.ticket = ticket;
+        this.joinedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public void setStudent(Student student) {
+        this.student = student;
+    }
+
+    public Long getTicket() {
+        return ticket;
+    }
+
+    public void setTicket(Long ticket) {
+        this.ticket = ticket;
+    }
+
+    public LocalDateTime getJoinedAt() {
+        return joinedAt;
+    }
+
+    public void setJoinedAt(LocalDateTime joinedAt) {
+        this.joinedAt = joinedAt;
+    }
+}
@@ -1,10 +1,16 @@
 package com.curseando.repository;
 
+import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CourseSummaryDTO;
 import com.curseando.model.Course;
 import com.curseando.model.DifficultyLevel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,14 +18,101 @@ import java.util.Optional;
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    /**
+     * Selects read models straight into {@link CourseDTO}: no managed entities,
+     * no dirty-checking snapshots and no lazy collections for read endpoints.
+     */
+    String DTO_SELECT = "SELECT new com.curseando.dto.CourseDTO(c.id, c.title, c.instructor, c.duration, "
+            + "c.difficulty, c.description, c.maxCapacity, c.enrolledCount, c.version) FROM Course c ";
+
+    /**
+     * List views: the description TEXT is cut to a teaser in the database, so
+     * the full column is never shipped to the application.
+     */
+    String SUMMARY_SELECT = "SELECT new com.curseando.dto.CourseSummaryDTO(c.id, c.title, c.instructor, c.duration, "
+            + "c.difficulty, SUBSTRING(c.description, 1, " + CourseSummaryDTO.TEASER_LENGTH + "), "
+            + "c.maxCapacity, c.enrolledCount, c.version) FROM Course c ";
+
     List<Course> findByDifficulty(DifficultyLevel difficulty);
 
     @Query("SELECT c FROM Course c WHERE c.enrolledCount < c.maxCapacity")
     List<Course> findAvailableCourses();
 
+    @Query(SUMMARY_SELECT + "ORDER BY c.id")
+    List<CourseSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE c.difficulty = :difficulty ORDER BY c.id")
+    List<CourseSummaryDTO> findSummariesByDifficulty(@Param("difficulty") DifficultyLevel difficulty);
+
+    @Query(DTO_SELECT + "WHERE c.id = :id")
+    Optional<CourseDTO> findByIdAsDTO(@Param("id") Long id);
+
+    /**
+     * Keyset page: courses with an id greater than {@code afterId}, in id order,
+     * so a page costs the same at any depth. Null {@code difficulty} and false
+     * {@code availableOnly} disable those filters. Each combination has its own
+     * query with literal predicates, so Postgres can match them to the
+     * difficulty and partial availability indexes.
+     */
+    default List<CourseSummaryDTO> findPageAfter(long afterId, DifficultyLevel difficulty, boolean availableOnly,
+            Limit limit) {
+        if (difficulty == null) {
+            return availableOnly ? findAvailablePageAfter(afterId, limit) : findPageAfter(afterId, limit);
+        }
+        return availableOnly
+                ? findAvailablePageAfterByDifficulty(afterId, difficulty, limit)
+                : findPageAfterByDifficulty(afterId, difficulty, limit);
+    }
+
+    @Query(SUMMARY_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    List<CourseSummaryDTO> findPageAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.id > :afterId AND c.enrolledCount < c.maxCapacity ORDER BY c.id")
+    List<CourseSummaryDTO> findAvailablePageAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.difficulty = :difficulty AND c.id > :afterId ORDER BY c.id")
+    List<CourseSummaryDTO> findPageAfterByDifficulty(@Param("afterId") long afterId,
+            @Param("difficulty") DifficultyLevel difficulty, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.difficulty = :difficulty AND c.id > :afterId "
+            + "AND c.enrolledCount < c.maxCapacity ORDER BY c.id")
+    List<CourseSummaryDTO> findAvailablePageAfterByDifficulty(@Param("afterId") long afterId,
+            @Param("difficulty") DifficultyLevel difficulty, Limit limit);
+
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = :courseId")
     long countEnrollmentsByCourseId(Long courseId);
 
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.enrollments WHERE c.id = :id")
     Optional<Course> findByIdWithEnrollments(Long id);
+
+    @Query("SELECT c.maxCapacity - c.enrolledCount FROM Course c WHERE c.id = :id")
+    Integer findAvailableSpotsById(@Param("id") Long id);
+
+    /**
+     * Takes one seat in a single conditional UPDATE, so the capacity check and the
+     * increment are atomic under READ COMMITTED. Also bumps the course version.
+     * Seats of a course with a waitlist are left to the waitlist's promotion.
+     *
+     * @return 1 if a seat was taken, 0 if the course is full, has students
+     *         waiting, or does not exist
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.enrolledCount = c.enrolledCount + 1, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.enrolledCount < c.maxCapacity "
+            + "AND NOT EXISTS (SELECT 1 FROM WaitlistEntry w WHERE w.course = c)")
+    int incrementEnrolledCountIfAvailable(@Param("id") Long id);
+
+    /**
+     * Takes {@code seats} seats at once, all or none, with the same conditional
+     * UPDATE. Loaded courses are left in the persistence context, so batch callers
+     * keep their references; their counts are stale afterwards.
+     *
+     * @return 1 if the seats were taken, 0 if not enough are left or the course does not exist
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Course c SET c.enrolledCount = c.enrolledCount + :seats, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.enrolledCount + :seats <= c.maxCapacity")
+    int incrementEnrolledCountBy(@Param("id") Long id, @Param("seats") int seats);
 }
@@ -0,0 +1,30 @@
+package com.curseando.repository;
+
+import com.curseando.model.EnrollmentOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EnrollmentOutboxRepository extends JpaRepository<EnrollmentOutboxEvent, Long> {
+
+    /** Lock timeout that makes Hibernate add SKIP LOCKED ({@code LockOptions.SKIP_LOCKED}). */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Locks the oldest events for publishing, passing over rows another relay
+     * has locked, so relays on several instances take disjoint batches instead
+     * of queueing behind each other. Must run inside a transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT e FROM EnrollmentOutboxEvent e ORDER BY e.id")
+    List<EnrollmentOutboxEvent> lockOldest(Limit limit);
+}
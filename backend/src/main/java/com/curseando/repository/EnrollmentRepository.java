@@ -6,7 +6,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
@@ -15,8 +18,26 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Optional<Enrollment> findByCourseIdAndStudentEmail(@Param("courseId") Long courseId,
             @Param("email") String email);
 
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.course JOIN FETCH e.student WHERE e.id = :id")
+    Optional<Enrollment> findWithCourseAndStudentById(@Param("id") Long id);
+
     boolean existsByCourseIdAndStudentEmail(Long courseId, String email);
 
+    boolean existsByCourseIdAndStudentId(Long courseId, Long studentId);
+
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = :courseId")
     long countByCourseId(@Param("courseId") Long courseId);
+
+    @Query("SELECT e.student.email FROM Enrollment e WHERE e.course.id = :courseId AND e.student.email IN :emails")
+    List<String> findEnrolledEmails(@Param("courseId") Long courseId, @Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.course.id AS courseId, e.student.id AS studentId FROM Enrollment e")
+    Stream<CourseStudentIds> streamCourseStudentIds();
+
+    interface CourseStudentIds {
+
+        Long getCourseId();
+
+        Long getStudentId();
+    }
 }
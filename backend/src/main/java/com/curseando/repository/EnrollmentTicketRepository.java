@@ -0,0 +1,68 @@
+package com.curseando.repository;
+
+import com.curseando.model.EnrollmentTicket;
+import com.curseando.model.EnrollmentTicketStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EnrollmentTicketRepository extends JpaRepository<EnrollmentTicket, UUID> {
+
+    String PENDING = "com.curseando.model.EnrollmentTicketStatus.PENDING";
+
+    /**
+     * Pending tickets nobody holds a live claim on, oldest first.
+     */
+    @Query("SELECT t FROM EnrollmentTicket t WHERE t.status = " + PENDING
+            + " AND (t.claimedAt IS NULL OR t.claimedAt < :expiredBefore) ORDER BY t.createdAt")
+    List<EnrollmentTicket> findClaimable(@Param("expiredBefore") LocalDateTime expiredBefore, Limit limit);
+
+    /**
+     * Claims a pending ticket unless someone else holds a live claim on it.
+     *
+     * @return 1 if the caller now owns the ticket, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EnrollmentTicket t SET t.claimedAt = :now WHERE t.id = :id AND t.status = " + PENDING
+            + " AND (t.claimedAt IS NULL OR t.claimedAt < :expiredBefore)")
+    int claim(@Param("id") UUID id, @Param("now") LocalDateTime now,
+            @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    /**
+     * Hands a pending ticket back to the next sweep.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EnrollmentTicket t SET t.claimedAt = NULL WHERE t.id = :id AND t.status = " + PENDING)
+    int release(@Param("id") UUID id);
+
+    /**
+     * Records the outcome of a pending ticket; a ticket is completed once.
+     *
+     * @return 1 if recorded, 0 if the ticket was already completed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EnrollmentTicket t SET t.status = :status, t.enrollmentId = :enrollmentId, "
+            + "t.waitlistPosition = :waitlistPosition, t.error = :error, t.message = :message, "
+            + "t.completedAt = :completedAt WHERE t.id = :id AND t.status = " + PENDING)
+    int complete(@Param("id") UUID id, @Param("status") EnrollmentTicketStatus status,
+            @Param("enrollmentId") Long enrollmentId, @Param("waitlistPosition") Long waitlistPosition,
+            @Param("error") String error, @Param("message") String message,
+            @Param("completedAt") LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EnrollmentTicket t WHERE t.status <> " + PENDING + " AND t.completedAt < :before")
+    int deleteCompletedBefore(@Param("before") LocalDateTime before);
+}
@@ -4,12 +4,16 @@ import com.curseando.model.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentRepositoryCustom {
 
     Optional<Student> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    List<Student> findByEmailIn(Collection<String> emails);
 }
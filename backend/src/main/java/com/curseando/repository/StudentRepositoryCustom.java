@@ -0,0 +1,14 @@
+package com.curseando.repository;
+
+import com.curseando.model.Student;
+
+public interface StudentRepositoryCustom {
+
+    /**
+     * Returns the student with this email, inserting it first if there is none,
+     * in a single statement. Concurrent first enrollments with the same email
+     * resolve to the same row instead of one of them failing on the unique key.
+     * An existing student keeps the stored name.
+     */
+    Student upsertByEmail(String fullName, String email);
+}
@@ -0,0 +1,39 @@
+package com.curseando.repository;
+
+import com.curseando.model.WaitlistEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    @Query("SELECT w.ticket FROM WaitlistEntry w WHERE w.course.id = :courseId AND w.student.email = :email")
+    Optional<Long> findTicket(@Param("courseId") Long courseId, @Param("email") String email);
+
+    /**
+     * Lowest waiting ticket of a course: one seek on the (course_id, ticket) index.
+     */
+    @Query("SELECT MIN(w.ticket) FROM WaitlistEntry w WHERE w.course.id = :courseId")
+    Long findHeadTicket(@Param("courseId") Long courseId);
+
+    boolean existsByCourseId(Long courseId);
+
+    @Query("SELECT MAX(w.ticket) FROM WaitlistEntry w WHERE w.course.id = :courseId")
+    Long findTailTicket(@Param("courseId") Long courseId);
+
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.student WHERE w.course.id = :courseId ORDER BY w.ticket")
+    List<WaitlistEntry> findHead(@Param("courseId") Long courseId, Limit limit);
+
+    /**
+     * Courses with free seats and someone waiting for them.
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.enrolledCount < c.maxCapacity "
+            + "AND EXISTS (SELECT 1 FROM WaitlistEntry w WHERE w.course = c) ORDER BY c.id")
+    List<Long> findPromotableCourseIds();
+}
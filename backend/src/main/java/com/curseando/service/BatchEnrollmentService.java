@@ -0,0 +1,297 @@
+package com.curseando.service;
+
+import com.curseando.dto.BatchEnrollmentItemResult;
+import com.curseando.dto.BatchEnrollmentResponse;
+import com.curseando.dto.BatchEnrollmentStatus;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.event.CourseSeatsChangedEvent;
+import com.curseando.model.Course;
+import com.curseando.model.Enrollment;
+import com.curseando.model.EnrollmentOutboxEvent;
+import com.curseando.model.Student;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentOutboxRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.repository.WaitlistEntryRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.curseando.service.ConstraintViolations.violates;
+
+/**
+ * Enrolls many students, possibly across several courses, in one transaction.
+ *
+ * Requests are grouped by course. Students are resolved with a single IN query,
+ * already enrolled students with one query per course, and each course's
+ * enrolledCount is bumped once for the whole group. Rejections (full course,
+ * duplicate, unknown course) are reported per item instead of failing the batch.
+ * Every enrollment gets its outbox event in the same transaction.
+ */
+@Service
+public class BatchEnrollmentService {
+
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentOutboxRepository outboxRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final SeatReservationEngine seatReservationEngine;
+    private final EnrollmentMembershipIndex membershipIndex;
+    private final EnrollmentRetryExecutor retryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public BatchEnrollmentService(CourseRepository courseRepository,
+            StudentRepository studentRepository,
+            EnrollmentRepository enrollmentRepository,
+            EnrollmentOutboxRepository outboxRepository,
+            WaitlistEntryRepository waitlistEntryRepository,
+            SeatReservationEngine seatReservationEngine,
+            EnrollmentMembershipIndex membershipIndex,
+            EnrollmentRetryExecutor retryExecutor,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.outboxRepository = outboxRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.seatReservationEngine = seatReservationEngine;
+        this.membershipIndex = membershipIndex;
+        this.retryExecutor = retryExecutor;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * If the batch is rejected as a whole by a constraint, because a concurrent
+     * enrollment wrote one of its students or enrollments after they were
+     * looked up, each request is enrolled on its own instead, so every item
+     * still gets its own result.
+     */
+    public BatchEnrollmentResponse enrollAll(List<EnrollmentRequest> requests) {
+        try {
+            return new BatchEnrollmentResponse(write(requests, false, false).results());
+        } catch (DataIntegrityViolationException ex) {
+            List<BatchEnrollmentItemResult> results = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                results.add(enrollAlone(i, requests.get(i)));
+            }
+            return new BatchEnrollmentResponse(results);
+        }
+    }
+
+    /**
+     * Same as {@link #enrollAll} for walk-in requests, also handing back the
+     * enrollment written for each request (null where the request was
+     * rejected), for callers that answer every request on its own. Walk-ins get
+     * no seat in a course with students on its waitlist; those seats are left
+     * to the waitlist's promotion.
+     */
+    Written write(List<EnrollmentRequest> requests) {
+        return write(requests, true, false);
+    }
+
+    private Written write(List<EnrollmentRequest> requests, boolean walkIns, boolean upsertStudents) {
+        return retryExecutor.execute(() -> transactionTemplate.execute(
+                status -> enrollAllInTransaction(requests, walkIns, upsertStudents)));
+    }
+
+    record Written(List<BatchEnrollmentItemResult> results, List<Enrollment> enrollments) {
+    }
+
+    // Alone, a new student is upserted: the race that sent the batch here cannot fail it again
+    private BatchEnrollmentItemResult enrollAlone(int index, EnrollmentRequest request) {
+        BatchEnrollmentItemResult result;
+        try {
+            result = write(List.of(request), false, true).results().get(0);
+        } catch (DataIntegrityViolationException ex) {
+            if (!violates(ex, Enrollment.COURSE_STUDENT_CONSTRAINT)) {
+                throw ex;
+            }
+            return new BatchEnrollmentItemResult(index, request.getCourseId(), request.getEmail(),
+                    BatchEnrollmentStatus.DUPLICATE, null, duplicateMessage(request.getEmail()));
+        }
+        return new BatchEnrollmentItemResult(index, result.getCourseId(), result.getEmail(), result.getStatus(),
+                result.getEnrollmentId(), result.getMessage());
+    }
+
+    private Written enrollAllInTransaction(List<EnrollmentRequest> requests, boolean walkIns,
+            boolean upsertStudents) {
+        BatchEnrollmentItemResult[] results = new BatchEnrollmentItemResult[requests.size()];
+        Enrollment[] written = new Enrollment[requests.size()];
+        Map<Long, List<Integer>> indexesByCourse = groupByCourse(requests, results);
+        Map<Long, Course> courses = courseRepository.findAllById(indexesByCourse.keySet()).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        Map<String, Student> students = findStudents(requests);
+
+        // Seats held in memory by this attempt; handed back if it rolls back
+        Map<Long, SeatReservationEngine.Reservation> reservedSeats = new HashMap<>();
+        try {
+            List<Enrollment> enrollments = new ArrayList<>();
+            List<Integer> enrollmentIndexes = new ArrayList<>();
+            for (Map.Entry<Long, List<Integer>> group : indexesByCourse.entrySet()) {
+                Course course = courses.get(group.getKey());
+                if (course == null) {
+                    reject(requests, group.getValue(), results, BatchEnrollmentStatus.COURSE_NOT_FOUND,
+                            "Course not found with id: " + group.getKey());
+                    continue;
+                }
+
+                List<Integer> admitted = admitGroup(course, requests, group.getValue(), results, reservedSeats,
+                        walkIns);
+                for (int index : admitted) {
+                    EnrollmentRequest request = requests.get(index);
+                    Student student = students.computeIfAbsent(request.getEmail(), email -> upsertStudents
+                            ? studentRepository.upsertByEmail(request.getFullName(), email)
+                            : new Student(request.getFullName(), email));
+                    Enrollment enrollment = new Enrollment(course, student);
+                    enrollment.setTicketId(request.getTicketId());
+                    enrollments.add(enrollment);
+                    enrollmentIndexes.add(index);
+                }
+            }
+
+            // New students are inserted in one batch; a concurrent insert of the same
+            // email fails it, and both callers then retry item by item with an upsert
+            studentRepository.saveAll(students.values().stream()
+                    .filter(student -> student.getId() == null)
+                    .toList());
+            enrollmentRepository.saveAll(enrollments);
+            // Batched like the enrollments, and committed or rolled back with them
+            outboxRepository.saveAll(enrollments.stream()
+                    .map(enrollment -> new EnrollmentOutboxEvent(enrollment, enrollment.getStudent().getEmail()))
+                    .toList());
+            // Constraint violations surface here, while the seats can still be handed back
+            enrollmentRepository.flush();
+
+            for (int i = 0; i < enrollments.size(); i++) {
+                int index = enrollmentIndexes.get(i);
+                EnrollmentRequest request = requests.get(index);
+                Enrollment enrollment = enrollments.get(i);
+                Student student = enrollment.getStudent();
+                results[index] = new BatchEnrollmentItemResult(index, request.getCourseId(), request.getEmail(),
+                        BatchEnrollmentStatus.ENROLLED, enrollment.getId(), null);
+                written[index] = enrollment;
+                membershipIndex.rememberStudent(student.getEmail(), student.getId(), student.getFullName());
+                membershipIndex.recordEnrollment(request.getCourseId(), student.getId());
+            }
+            reservedSeats.keySet().forEach(courseId -> eventPublisher.publishEvent(new CourseSeatsChangedEvent(courseId)));
+            return new Written(List.of(results), Arrays.asList(written));
+        } catch (RuntimeException ex) {
+            reservedSeats.values().forEach(SeatReservationEngine.Reservation::release);
+            throw ex;
+        }
+    }
+
+    private static String duplicateMessage(String email) {
+        return "Student with email " + email + " is already enrolled in this course";
+    }
+
+    /**
+     * Decides which requests of one course get a seat: duplicates are rejected,
+     * then seats are handed out in request order until the course is full.
+     *
+     * @return indexes of the admitted requests
+     */
+    private List<Integer> admitGroup(Course course, List<EnrollmentRequest> requests, List<Integer> indexes,
+            BatchEnrollmentItemResult[] results, Map<Long, SeatReservationEngine.Reservation> reservedSeats,
+            boolean walkIns) {
+        Set<String> emails = indexes.stream()
+                .map(index -> requests.get(index).getEmail())
+                .collect(Collectors.toSet());
+        Set<String> taken = new HashSet<>(enrollmentRepository.findEnrolledEmails(course.getId(), emails));
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int index : indexes) {
+            String email = requests.get(index).getEmail();
+            // add() also catches the same student listed twice for one course
+            if (!taken.add(email)) {
+                reject(requests, List.of(index), results, BatchEnrollmentStatus.DUPLICATE, duplicateMessage(email));
+            } else {
+                candidates.add(index);
+            }
+        }
+
+        // Seats of a course with a waitlist belong to the waitlist first
+        boolean waitlisted = walkIns && !candidates.isEmpty()
+                && waitlistEntryRepository.existsByCourseId(course.getId());
+        int seats = waitlisted ? 0 : takeSeats(course.getId(), candidates.size(), reservedSeats);
+        reject(requests, candidates.subList(seats, candidates.size()), results, BatchEnrollmentStatus.COURSE_FULL,
+                "Course with ID " + course.getId() + " is full");
+        return candidates.subList(0, seats);
+    }
+
+    /**
+     * Wins up to {@code wanted} seats in memory, then takes them in the database
+     * with a single conditional UPDATE. If the in-memory counter was stale, it is
+     * reloaded and the database decides how many seats are really left.
+     */
+    private int takeSeats(Long courseId, int wanted, Map<Long, SeatReservationEngine.Reservation> reservedSeats) {
+        if (wanted == 0) {
+            return 0;
+        }
+        SeatReservationEngine.Reservation reservation = seatReservationEngine.tryReserve(courseId, wanted);
+        int seats = reservation.seats();
+        // On rollback the seats go back to this reservation's counter, even if it was evicted below
+        reservedSeats.put(courseId, reservation);
+        while (seats > 0 && courseRepository.incrementEnrolledCountBy(courseId, seats) == 0) {
+            seatReservationEngine.evict(courseId);
+            Integer available = courseRepository.findAvailableSpotsById(courseId);
+            seats = Math.min(seats, available != null ? Math.max(available, 0) : 0);
+        }
+        if (seats == 0) {
+            reservedSeats.remove(courseId);
+        }
+        return seats;
+    }
+
+    private Map<Long, List<Integer>> groupByCourse(List<EnrollmentRequest> requests,
+            BatchEnrollmentItemResult[] results) {
+        Map<Long, List<Integer>> indexesByCourse = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Long courseId = requests.get(i).getCourseId();
+            if (courseId == null) {
+                reject(requests, List.of(i), results, BatchEnrollmentStatus.COURSE_NOT_FOUND, "Course ID is required");
+            } else {
+                indexesByCourse.computeIfAbsent(courseId, id -> new ArrayList<>()).add(i);
+            }
+        }
+        return indexesByCourse;
+    }
+
+    private Map<String, Student> findStudents(Collection<EnrollmentRequest> requests) {
+        Set<String> emails = requests.stream()
+                .map(EnrollmentRequest::getEmail)
+                .collect(Collectors.toSet());
+        return studentRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(Student::getEmail, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    private static void reject(List<EnrollmentRequest> requests, List<Integer> indexes,
+            BatchEnrollmentItemResult[] results, BatchEnrollmentStatus status, String message) {
+        for (int index : indexes) {
+            EnrollmentRequest request = requests.get(index);
+            results[index] = new BatchEnrollmentItemResult(index, request.getCourseId(), request.getEmail(),
+                    status, null, message);
+        }
+    }
+}
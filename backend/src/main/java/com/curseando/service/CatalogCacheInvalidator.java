@@ -0,0 +1,74 @@
+package com.curseando.service;
+
+import com.curseando.config.CacheConfig;
+import com.curseando.event.CourseSeatsChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drops cached catalog entries once an enrollment has committed, so
+ * enrolledCount and availableSpots are fresh on the next read.
+ *
+ * Evicting alone is not enough: a reader that loaded a course before the
+ * commit can put its stale copy after the eviction. Cache keys therefore carry
+ * a generation, taken by {@link CourseService} before it reads the database and
+ * bumped here on every commit. A late put lands under the old generation,
+ * which no reader asks for any more, and ages out with the cache TTL.
+ */
+@Component
+public class CatalogCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final AtomicLong catalogGeneration = new AtomicLong();
+    private final ConcurrentMap<Long, Long> courseGenerations = new ConcurrentHashMap<>();
+
+    public CatalogCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Key of a list view ("ALL" or a difficulty) in the catalog cache.
+     */
+    public String catalogKey(String view) {
+        return view + '@' + catalogGeneration.get();
+    }
+
+    /**
+     * Key of a single course in the courses cache.
+     */
+    public String courseKey(Long courseId) {
+        return courseKey(courseId, courseGenerations.getOrDefault(courseId, 0L));
+    }
+
+    /**
+     * Runs first so listeners that rebuild derived views read fresh DTOs.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onSeatsChanged(CourseSeatsChangedEvent event) {
+        long generation = courseGenerations.merge(event.courseId(), 1L, Long::sum);
+        Cache courses = cacheManager.getCache(CacheConfig.COURSES_CACHE);
+        if (courses != null) {
+            courses.evict(courseKey(event.courseId(), generation - 1));
+        }
+
+        // Only a handful of list views exist (all + one per difficulty), so drop them all
+        catalogGeneration.incrementAndGet();
+        Cache catalog = cacheManager.getCache(CacheConfig.CATALOG_CACHE);
+        if (catalog != null) {
+            catalog.clear();
+        }
+    }
+
+    private static String courseKey(Long courseId, long generation) {
+        return String.valueOf(courseId) + '@' + generation;
+    }
+}
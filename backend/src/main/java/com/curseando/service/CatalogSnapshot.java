@@ -0,0 +1,58 @@
+package com.curseando.service;
+
+/**
+ * A catalog view serialized once to UTF-8 JSON and shared by every request
+ * until the catalog changes. Views above the compression threshold also keep
+ * a gzip copy made at build time. The byte arrays must never be modified.
+ */
+public final class CatalogSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final long generation;
+    private final long builtAtNanos;
+
+    CatalogSnapshot(byte[] json, byte[] gzip, String etag, long generation, long builtAtNanos) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.generation = generation;
+        this.builtAtNanos = builtAtNanos;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * Gzip-encoded {@link #getJson()}, or null when the view is too small to be
+     * worth compressing.
+     */
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * Strong ETag of the gzip representation; a different encoding is a
+     * different representation, so it cannot share the identity ETag.
+     */
+    public String getGzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Strong ETag derived from the id and version of every course in the view.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    long getBuiltAtNanos() {
+        return builtAtNanos;
+    }
+}
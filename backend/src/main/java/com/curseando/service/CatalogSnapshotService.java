@@ -0,0 +1,159 @@
+package com.curseando.service;
+
+import com.curseando.config.CatalogProperties;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.event.CourseSeatsChangedEvent;
+import com.curseando.model.DifficultyLevel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the course list (whole catalog and one view per difficulty) as
+ * prebuilt JSON bytes, so the hot read path does no serialization.
+ *
+ * Snapshots are rebuilt lazily: a committed enrollment bumps the generation,
+ * and the next read of a view rebuilds it once. A maximum age bounds staleness
+ * for changes made outside the application.
+ *
+ * Views above the compression threshold are gzipped once per rebuild, so
+ * clients accepting gzip are served the same compressed bytes every time.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final String ALL_VIEW = "ALL";
+
+    private final CourseService courseService;
+    private final ObjectMapper objectMapper;
+    private final long maxAgeNanos;
+    private final long compressionMinBytes;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<String, CatalogSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, FutureTask<CatalogSnapshot>> rebuilds = new ConcurrentHashMap<>();
+
+    public CatalogSnapshotService(CourseService courseService, ObjectMapper objectMapper,
+            CatalogProperties properties) {
+        this.courseService = courseService;
+        this.objectMapper = objectMapper;
+        this.maxAgeNanos = properties.getSnapshotMaxAge().toNanos();
+        this.compressionMinBytes = properties.getCompressionMinSize().toBytes();
+    }
+
+    public CatalogSnapshot getAll() {
+        return snapshot(ALL_VIEW, courseService::findAll);
+    }
+
+    public CatalogSnapshot getByDifficulty(DifficultyLevel difficulty) {
+        return snapshot(difficulty.name(), () -> courseService.findByDifficulty(difficulty));
+    }
+
+    /**
+     * Runs after {@link CatalogCacheInvalidator}, so rebuilt snapshots never read
+     * evicted DTOs.
+     */
+    @TransactionalEventListener
+    public void onSeatsChanged(CourseSeatsChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private CatalogSnapshot snapshot(String view, Supplier<List<CourseSummaryDTO>> loader) {
+        long current = generation.get();
+        CatalogSnapshot snapshot = snapshots.get(view);
+        if (isFresh(snapshot, current)) {
+            return snapshot;
+        }
+
+        // One rebuild per view, run outside the maps so they are never locked during I/O;
+        // concurrent readers of the view wait for it
+        while (true) {
+            FutureTask<CatalogSnapshot> rebuild = new FutureTask<>(() -> build(view, loader, current));
+            FutureTask<CatalogSnapshot> running = rebuilds.putIfAbsent(view, rebuild);
+            if (running == null) {
+                running = rebuild;
+                try {
+                    rebuild.run();
+                } finally {
+                    rebuilds.remove(view, rebuild);
+                }
+            }
+            CatalogSnapshot built = await(running);
+            // A rebuild started before the last invalidation is too old for this reader
+            if (built.getGeneration() >= current) {
+                // Never replace a newer snapshot installed by a rebuild that finished first
+                snapshots.merge(view, built,
+                        (existing, candidate) -> candidate.getGeneration() >= existing.getGeneration()
+                                ? candidate
+                                : existing);
+                return built;
+            }
+        }
+    }
+
+    private static CatalogSnapshot await(FutureTask<CatalogSnapshot> rebuild) {
+        try {
+            return rebuild.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a catalog snapshot", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private boolean isFresh(CatalogSnapshot snapshot, long currentGeneration) {
+        return snapshot != null
+                && snapshot.getGeneration() == currentGeneration
+                && System.nanoTime() - snapshot.getBuiltAtNanos() < maxAgeNanos;
+    }
+
+    private CatalogSnapshot build(String view, Supplier<List<CourseSummaryDTO>> loader, long forGeneration) {
+        List<CourseSummaryDTO> courses = loader.get();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(courses);
+            byte[] gzip = json.length >= compressionMinBytes ? gzip(json) : null;
+            return new CatalogSnapshot(json, gzip, etagFor(view, courses), forGeneration, System.nanoTime());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    static String etagFor(String view, List<CourseSummaryDTO> courses) {
+        long hash = 17;
+        for (CourseSummaryDTO course : courses) {
+            hash = 31 * hash + course.getId();
+            hash = 31 * hash + (course.getVersion() != null ? course.getVersion() : 0L);
+        }
+        return "\"" + view.toLowerCase() + "-" + courses.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+}
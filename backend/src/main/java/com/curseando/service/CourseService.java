@@ -1,15 +1,19 @@
 package com.curseando.service;
 
+import com.curseando.config.CacheConfig;
 import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CoursePage;
+import com.curseando.dto.CourseSummaryDTO;
 import com.curseando.model.Course;
 import com.curseando.model.DifficultyLevel;
 import com.curseando.repository.CourseRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -21,21 +25,32 @@ public class CourseService {
         this.courseRepository = courseRepository;
     }
 
-    public List<CourseDTO> findAll() {
-        return courseRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    @Cacheable(cacheNames = CacheConfig.CATALOG_CACHE, key = "@catalogCacheInvalidator.catalogKey('ALL')")
+    public List<CourseSummaryDTO> findAll() {
+        return courseRepository.findAllSummaries();
     }
 
+    @Cacheable(cacheNames = CacheConfig.COURSES_CACHE, key = "@catalogCacheInvalidator.courseKey(#id)", unless = "#result == null")
     public Optional<CourseDTO> findById(Long id) {
-        return courseRepository.findById(id)
-                .map(this::toDTO);
+        return courseRepository.findByIdAsDTO(id);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATALOG_CACHE, key = "@catalogCacheInvalidator.catalogKey(#difficulty.name())")
+    public List<CourseSummaryDTO> findByDifficulty(DifficultyLevel difficulty) {
+        return courseRepository.findSummariesByDifficulty(difficulty);
     }
 
-    public List<CourseDTO> findByDifficulty(DifficultyLevel difficulty) {
-        return courseRepository.findByDifficulty(difficulty).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    /**
+     * Returns up to {@code limit} courses after the {@code after} cursor. One
+     * extra row is fetched to tell whether another page exists.
+     */
+    public CoursePage findPage(Long after, int limit, DifficultyLevel difficulty, boolean availableOnly) {
+        List<CourseSummaryDTO> courses = courseRepository.findPageAfter(after != null ? after : 0L, difficulty,
+                availableOnly, Limit.of(limit + 1));
+        boolean hasMore = courses.size() > limit;
+        List<CourseSummaryDTO> items = hasMore ? courses.subList(0, limit) : courses;
+        Long nextCursor = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new CoursePage(items, nextCursor);
     }
 
     public Integer getAvailableSpots(Long courseId) {
@@ -48,16 +63,4 @@ public class CourseService {
         return courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
     }
-
-    private CourseDTO toDTO(Course course) {
-        return new CourseDTO(
-                course.getId(),
-                course.getTitle(),
-                course.getInstructor(),
-                course.getDuration(),
-                course.getDifficulty(),
-                course.getDescription(),
-                course.getMaxCapacity(),
-                course.getEnrolledCount());
-    }
 }
@@ -0,0 +1,247 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.exception.EnrollmentQueueFullException;
+import com.curseando.service.EnrollmentService.EnrollmentOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for single enrollments.
+ *
+ * Each course has its own bounded queue with a single writer, so a course
+ * never holds more than one lane and its requests stop fighting over the same
+ * course row. Courses with waiting requests take turns on a small fixed set of
+ * lanes: after each turn a course goes back to the end of the line, so a hot
+ * course cannot delay the others by more than one turn per lane. The lane
+ * count caps the connections enrollments use and leaves the rest of the pool
+ * to catalog reads. A full queue rejects at once with
+ * {@link EnrollmentQueueFullException} (429) instead of letting callers pile up.
+ *
+ * With {@code group-commit-size} above 1, a turn takes every request waiting
+ * for the course, up to that size, and commits them together through
+ * {@link EnrollmentService#enrollGroup}. A lone request still takes the
+ * single-enrollment path, so group commit adds no latency when there is no
+ * queue. Group sizes are recorded in {@code enrollment.admission.group.size}.
+ *
+ * The futures {@link #submit} returns are completed on a lane. Callers run
+ * whatever follows, like joining the waitlist, on {@link #followUps()} so the
+ * lanes only ever write enrollments.
+ *
+ * A course queue only exists while it has requests: a turn that leaves it
+ * empty retires it, so the map holds the courses being enrolled into right
+ * now rather than every course id ever submitted.
+ */
+@Service
+public class EnrollmentAdmissionQueue implements DisposableBean {
+
+    private final EnrollmentService enrollmentService;
+    private final ExecutorService lanes;
+    private final ExecutorService followUps;
+    private final EnrollmentProperties.Admission properties;
+    private final ConcurrentMap<Long, CourseQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter rejected;
+    private final DistributionSummary groupSizes;
+
+    public EnrollmentAdmissionQueue(EnrollmentService enrollmentService, EnrollmentProperties properties,
+            MeterRegistry meterRegistry) {
+        this.enrollmentService = enrollmentService;
+        this.properties = properties.getAdmission();
+        this.lanes = Executors.newFixedThreadPool(this.properties.getLanes(),
+                new CustomizableThreadFactory("enrollment-lane-"));
+        this.followUps = Executors.newFixedThreadPool(this.properties.getFollowUpThreads(),
+                new CustomizableThreadFactory("enrollment-follow-up-"));
+        Gauge.builder("enrollment.admission.waiting", waiting, AtomicInteger::get)
+                .description("Enrollment requests queued for a lane, across all courses")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("enrollment.admission.rejected")
+                .description("Enrollment requests turned away because their course queue was full")
+                .register(meterRegistry);
+        this.groupSizes = DistributionSummary.builder("enrollment.admission.group.size")
+                .description("Enrollment requests served by one lane turn, and so by one transaction")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues {@code request} behind the other requests for the same course.
+     *
+     * @return completes with the enrollment, or with the exception
+     *         {@link EnrollmentService#enroll} would have thrown
+     * @throws EnrollmentQueueFullException if the course already has
+     *         {@code queue-depth} requests waiting
+     */
+    public CompletableFuture<EnrollmentResponse> submit(EnrollmentRequest request) {
+        Pending pending = new Pending(request, new CompletableFuture<>());
+        Long courseId = request.getCourseId();
+        if (courseId == null) {
+            // Rejected by the service straight away; nothing to queue for
+            enrollAlone(pending);
+            return pending.result();
+        }
+        while (true) {
+            CourseQueue queue = queues.computeIfAbsent(courseId, CourseQueue::new);
+            switch (queue.offer(pending)) {
+                case ACCEPTED:
+                    return pending.result();
+                case FULL:
+                    rejected.increment();
+                    throw new EnrollmentQueueFullException(courseId, properties.getRetryAfter());
+                case RETIRED:
+                    // Emptied and retired since it was looked up; the next lookup creates a fresh one
+                    queues.remove(courseId, queue);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Executor for the work that follows a decided request, to be passed to
+     * the {@code *Async} methods of the future returned by {@link #submit}.
+     */
+    public Executor followUps() {
+        return followUps;
+    }
+
+    int waiting() {
+        return waiting.get();
+    }
+
+    int courseQueues() {
+        return queues.size();
+    }
+
+    @Override
+    public void destroy() {
+        lanes.shutdownNow();
+        followUps.shutdownNow();
+    }
+
+    private void serve(List<Pending> group) {
+        groupSizes.record(group.size());
+        if (group.size() == 1) {
+            enrollAlone(group.get(0));
+            return;
+        }
+        List<EnrollmentOutcome> outcomes;
+        try {
+            outcomes = enrollmentService.enrollGroup(group.stream().map(Pending::request).toList());
+        } catch (Throwable ex) {
+            group.forEach(pending -> pending.result().completeExceptionally(ex));
+            return;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            EnrollmentOutcome outcome = outcomes.get(i);
+            CompletableFuture<EnrollmentResponse> result = group.get(i).result();
+            if (outcome.failure() != null) {
+                result.completeExceptionally(outcome.failure());
+            } else {
+                result.complete(outcome.response());
+            }
+        }
+    }
+
+    private void enrollAlone(Pending pending) {
+        try {
+            pending.result().complete(enrollmentService.enroll(pending.request()));
+        } catch (Throwable ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    private record Pending(EnrollmentRequest request, CompletableFuture<EnrollmentResponse> result) {
+    }
+
+    private enum Offer {
+        ACCEPTED, FULL, RETIRED
+    }
+
+    /**
+     * Requests of one course. It is handed to a lane while it has work and is
+     * not already on one; each turn serves one request, or one group. A turn
+     * that finds nothing left queued retires it and takes it out of the map.
+     */
+    private final class CourseQueue implements Runnable {
+
+        private static final int RETIRED = -1;
+
+        private final Long courseId;
+        private final Queue<Pending> tasks = new ConcurrentLinkedQueue<>();
+        /** Requests offered and not yet taken by a turn, or {@link #RETIRED}. */
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        CourseQueue(Long courseId) {
+            this.courseId = courseId;
+        }
+
+        Offer offer(Pending pending) {
+            int queued;
+            do {
+                queued = size.get();
+                if (queued == RETIRED) {
+                    return Offer.RETIRED;
+                }
+                if (queued >= properties.getQueueDepth()) {
+                    return Offer.FULL;
+                }
+            } while (!size.compareAndSet(queued, queued + 1));
+            waiting.incrementAndGet();
+            tasks.add(pending);
+            schedule();
+            return Offer.ACCEPTED;
+        }
+
+        @Override
+        public void run() {
+            try {
+                int limit = Math.max(1, properties.getGroupCommitSize());
+                List<Pending> group = new ArrayList<>(Math.min(limit, size.get()));
+                Pending pending;
+                while (group.size() < limit && (pending = tasks.poll()) != null) {
+                    size.decrementAndGet();
+                    waiting.decrementAndGet();
+                    group.add(pending);
+                }
+                if (!group.isEmpty()) {
+                    serve(group);
+                }
+            } finally {
+                scheduled.set(false);
+                // Only succeeds while no offer is in flight; later offers see it retired and start a new queue
+                if (size.compareAndSet(0, RETIRED)) {
+                    queues.remove(courseId, this);
+                } else {
+                    schedule();
+                }
+            }
+        }
+
+        private void schedule() {
+            // Both offer() and a finished turn check again, so a task added while a turn ends is not stranded
+            if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                lanes.execute(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.repository.EnrollmentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory hints that let an enrollment skip database work: a bounded map of
+ * known students by email, and per course a Bloom filter of enrolled student ids.
+ *
+ * Both are hints only. A filter answering "maybe" is confirmed with a query,
+ * and the enrollment unique key and student foreign key still have the final
+ * word, so a stale entry costs a query or a retry, never a wrong answer. The
+ * filters are rebuilt from the enrollments table at startup.
+ */
+@Component
+public class EnrollmentMembershipIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentMembershipIndex.class);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentProperties.Membership settings;
+    private final Cache<String, KnownStudent> students;
+    private final ConcurrentMap<Long, BloomFilter> enrolledStudents = new ConcurrentHashMap<>();
+
+    public EnrollmentMembershipIndex(EnrollmentRepository enrollmentRepository, EnrollmentProperties properties) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.settings = properties.getMembership();
+        this.students = Caffeine.newBuilder()
+                .maximumSize(settings.getStudentCacheSize())
+                .build();
+    }
+
+    /**
+     * @return the student last seen with this email, or null if unknown
+     */
+    public KnownStudent findStudent(String email) {
+        return students.getIfPresent(email);
+    }
+
+    public void rememberStudent(String email, Long id, String fullName) {
+        students.put(email, new KnownStudent(id, fullName));
+    }
+
+    public void forgetStudent(String email) {
+        students.invalidate(email);
+    }
+
+    /**
+     * @return false if the student is definitely not enrolled in the course,
+     *         true if they may be
+     */
+    public boolean mightBeEnrolled(Long courseId, Long studentId) {
+        BloomFilter filter = enrolledStudents.get(courseId);
+        return filter != null && filter.mightContain(studentId);
+    }
+
+    public void recordEnrollment(Long courseId, Long studentId) {
+        enrolledStudents.computeIfAbsent(courseId,
+                id -> new BloomFilter(settings.getExpectedEnrollmentsPerCourse(), settings.getFalsePositiveRate()))
+                .add(studentId);
+    }
+
+    /**
+     * Adds every stored enrollment to the filters. Entries recorded meanwhile
+     * are kept, so this is safe while enrollments are coming in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        AtomicLong count = new AtomicLong();
+        try (Stream<EnrollmentRepository.CourseStudentIds> enrollments = enrollmentRepository.streamCourseStudentIds()) {
+            enrollments.forEach(enrollment -> {
+                recordEnrollment(enrollment.getCourseId(), enrollment.getStudentId());
+                count.incrementAndGet();
+            });
+        }
+        log.info("Rebuilt enrollment filters for {} courses from {} enrollments", enrolledStudents.size(), count.get());
+    }
+
+    public record KnownStudent(Long id, String fullName) {
+    }
+}
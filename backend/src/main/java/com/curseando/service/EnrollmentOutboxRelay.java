@@ -0,0 +1,137 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.event.EnrollmentEventSink;
+import com.curseando.model.EnrollmentOutboxEvent;
+import com.curseando.repository.EnrollmentOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publishes the enrollment events waiting in the outbox to the configured
+ * {@link EnrollmentEventSink}.
+ *
+ * Each run drains the outbox in batches, one transaction per batch: the oldest
+ * rows are locked with SKIP LOCKED, published, and deleted. A run stops after
+ * {@code max-batches-per-run} batches so a large backlog is worked off over
+ * several runs instead of holding a scheduler thread for all of it. A sink failure
+ * rolls the batch back and it is published again on the next run, so delivery
+ * is at least once. Relays on several instances lock disjoint batches.
+ *
+ * {@code enrollment.outbox.published} counts published events,
+ * {@code enrollment.outbox.delay} times each one from its enrollment write to
+ * publication, and {@code enrollment.outbox.lag} is how long ago the outbox
+ * was last seen empty, which keeps growing while the relay or sink is stuck.
+ */
+@Service
+public class EnrollmentOutboxRelay implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentOutboxRelay.class);
+
+    private final EnrollmentOutboxRepository outboxRepository;
+    private final EnrollmentEventSink sink;
+    private final EnrollmentProperties.Outbox properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer delay;
+    private volatile long drainedAt = System.nanoTime();
+
+    public EnrollmentOutboxRelay(EnrollmentOutboxRepository outboxRepository,
+            EnrollmentEventSink sink,
+            EnrollmentProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.properties = properties.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.published = Counter.builder("enrollment.outbox.published")
+                .description("Enrollment events published from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("enrollment.outbox.failures")
+                .description("Relay runs stopped by an error, to be retried on the next run")
+                .register(meterRegistry);
+        this.delay = Timer.builder("enrollment.outbox.delay")
+                .description("Time from an enrollment being written to the publication of its event")
+                .register(meterRegistry);
+        Gauge.builder("enrollment.outbox.lag", this, relay -> relay.lag().toMillis() / 1000.0)
+                .description("Time since the relay last found the outbox empty")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::relay, properties.getRelayInterval());
+    }
+
+    /**
+     * Publishes batches until the outbox holds less than a batch, or
+     * {@code max-batches-per-run} batches were published. An error ends the
+     * run; the failed batch stays in the outbox.
+     *
+     * @return the number of events published
+     */
+    public int relay() {
+        int total = 0;
+        try {
+            List<EnrollmentOutboxEvent> batch;
+            int batches = 0;
+            do {
+                batch = transactionTemplate.execute(status -> publishOldest());
+                record(batch);
+                total += batch.size();
+                batches++;
+            } while (batch.size() == properties.getBatchSize() && batches < properties.getMaxBatchesPerRun());
+            if (batch.size() < properties.getBatchSize()) {
+                drainedAt = System.nanoTime();
+            }
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Relaying enrollment events failed, retrying on the next run", ex);
+        }
+        return total;
+    }
+
+    Duration lag() {
+        return Duration.ofNanos(System.nanoTime() - drainedAt);
+    }
+
+    private List<EnrollmentOutboxEvent> publishOldest() {
+        List<EnrollmentOutboxEvent> batch = outboxRepository.lockOldest(Limit.of(properties.getBatchSize()));
+        if (!batch.isEmpty()) {
+            sink.publish(batch.stream().map(EnrollmentOutboxEvent::toEvent).toList());
+            outboxRepository.deleteAllInBatch(batch);
+        }
+        return batch;
+    }
+
+    /** Called after commit, so a rolled back batch is not counted. */
+    private void record(List<EnrollmentOutboxEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (EnrollmentOutboxEvent event : batch) {
+            delay.record(Duration.between(event.getCreatedAt(), now));
+        }
+        published.increment(batch.size());
+    }
+}
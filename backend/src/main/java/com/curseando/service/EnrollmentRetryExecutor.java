@@ -0,0 +1,99 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.exception.EnrollmentContentionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a transactional action and retries it, with bounded attempts and
+ * full-jitter exponential backoff, when the database aborts it with a
+ * serialization failure or a deadlock. Any other failure is rethrown as is.
+ */
+@Component
+public class EnrollmentRetryExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentRetryExecutor.class);
+
+    /** serialization_failure and deadlock_detected. */
+    private static final Set<String> RETRYABLE_SQL_STATES = Set.of("40001", "40P01");
+
+    private final EnrollmentProperties.Retry settings;
+    private final Counter retries;
+    private final Counter recovered;
+    private final Counter exhausted;
+
+    public EnrollmentRetryExecutor(EnrollmentProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getRetry();
+        this.retries = Counter.builder("enrollment.retry.attempts")
+                .description("Enrollment attempts retried after a serialization or deadlock failure")
+                .register(meterRegistry);
+        this.recovered = Counter.builder("enrollment.retry.recovered")
+                .description("Enrollments that succeeded after at least one retry")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("enrollment.retry.exhausted")
+                .description("Enrollments given up after running out of attempts")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        // Inside a caller's transaction a retry would run in an already aborted transaction
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                T result = action.get();
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return result;
+            } catch (RuntimeException ex) {
+                if (!isRetryable(ex)) {
+                    throw ex;
+                }
+                if (attempt >= settings.getMaxAttempts()) {
+                    exhausted.increment();
+                    log.warn("Giving up enrollment after {} attempts: {}", attempt, ex.getMessage());
+                    throw new EnrollmentContentionException(ex);
+                }
+                retries.increment();
+                backOff(attempt, ex);
+                attempt++;
+            }
+        }
+    }
+
+    static boolean isRetryable(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && RETRYABLE_SQL_STATES.contains(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void backOff(int attempt, RuntimeException cause) {
+        long ceiling = Math.min(settings.getMaxBackoff().toMillis(),
+                settings.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnrollmentContentionException(cause);
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.curseando.service;
 
+import com.curseando.dto.BatchEnrollmentItemResult;
 import com.curseando.dto.EnrollmentRequest;
 import com.curseando.dto.EnrollmentResponse;
 import com.curseando.exception.CourseFullException;
 import com.curseando.exception.CourseNotFoundException;
+import com.curseando.event.CourseSeatsChangedEvent;
 import com.curseando.exception.DuplicateEnrollmentException;
 import com.curseando.model.Course;
 import com.curseando.model.Enrollment;
+import com.curseando.model.EnrollmentOutboxEvent;
 import com.curseando.model.Student;
 import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentOutboxRepository;
 import com.curseando.repository.EnrollmentRepository;
 import com.curseando.repository.StudentRepository;
-import jakarta.persistence.LockModeType;
-import org.springframework.data.jpa.repository.Lock;
+import com.curseando.service.EnrollmentMembershipIndex.KnownStudent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.curseando.service.ConstraintViolations.violates;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,60 +37,200 @@ public class EnrollmentService {
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentOutboxRepository outboxRepository;
+    private final SeatReservationEngine seatReservationEngine;
+    private final EnrollmentMembershipIndex membershipIndex;
+    private final EnrollmentRetryExecutor retryExecutor;
+    private final BatchEnrollmentService batchEnrollmentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public EnrollmentService(CourseRepository courseRepository,
             StudentRepository studentRepository,
-            EnrollmentRepository enrollmentRepository) {
+            EnrollmentRepository enrollmentRepository,
+            EnrollmentOutboxRepository outboxRepository,
+            SeatReservationEngine seatReservationEngine,
+            EnrollmentMembershipIndex membershipIndex,
+            EnrollmentRetryExecutor retryExecutor,
+            BatchEnrollmentService batchEnrollmentService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
         this.courseRepository = courseRepository;
         this.studentRepository = studentRepository;
         this.enrollmentRepository = enrollmentRepository;
+        this.outboxRepository = outboxRepository;
+        this.seatReservationEngine = seatReservationEngine;
+        this.membershipIndex = membershipIndex;
+        this.retryExecutor = retryExecutor;
+        this.batchEnrollmentService = batchEnrollmentService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
     }
 
-    @Transactional(isolation = Isolation.SERIALIZABLE)
+    /**
+     * Enrolls a student. A known student whose course filter says they may
+     * already be enrolled is checked with one query and rejected before taking
+     * a seat. The seat is won in memory next, so requests for a full course are
+     * rejected without opening a transaction; only winners write to the
+     * database, and a failed write hands the seat back. Writes aborted by a
+     * serialization failure or deadlock are retried while the seat is held.
+     * While the course has a waitlist, its free seats go to the waitlist and
+     * the request is rejected as if the course were full.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public EnrollmentResponse enroll(EnrollmentRequest request) {
-        // Find course with lock for concurrency handling
+        Long courseId = request.getCourseId();
+        KnownStudent known = membershipIndex.findStudent(request.getEmail());
+        if (known != null && membershipIndex.mightBeEnrolled(courseId, known.id())
+                && enrollmentRepository.existsByCourseIdAndStudentId(courseId, known.id())) {
+            throw new DuplicateEnrollmentException(request.getEmail());
+        }
+
+        SeatReservationEngine.Reservation seat = seatReservationEngine.tryReserve(courseId);
+        if (seat.isEmpty()) {
+            throw new CourseFullException(courseId);
+        }
+
+        try {
+            return retryExecutor.execute(() -> enrollInTransaction(request, known));
+        } catch (RuntimeException ex) {
+            seat.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Group commit for requests queued on the same course: they are written
+     * through {@link BatchEnrollmentService} in one transaction, with one seat
+     * update and one batched insert, and each request gets the outcome
+     * {@link #enroll} would have given it. Seats go out in request order. If
+     * the group is rejected as a whole by a constraint (such as a new student
+     * created at the same moment by another course), each request is enrolled
+     * on its own instead.
+     *
+     * @return one outcome per request, in request order
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    List<EnrollmentOutcome> enrollGroup(List<EnrollmentRequest> requests) {
+        BatchEnrollmentService.Written written;
+        try {
+            written = batchEnrollmentService.write(requests);
+        } catch (DataIntegrityViolationException ex) {
+            return requests.stream().map(this::enrollAlone).toList();
+        }
+
+        List<EnrollmentOutcome> outcomes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            outcomes.add(outcome(requests.get(i), written.results().get(i), written.enrollments().get(i)));
+        }
+        return outcomes;
+    }
+
+    /**
+     * The response or the exception of one request, so a group can answer
+     * each of its callers separately.
+     */
+    record EnrollmentOutcome(EnrollmentResponse response, RuntimeException failure) {
+    }
+
+    private EnrollmentOutcome enrollAlone(EnrollmentRequest request) {
+        try {
+            return new EnrollmentOutcome(enroll(request), null);
+        } catch (RuntimeException ex) {
+            return new EnrollmentOutcome(null, ex);
+        }
+    }
+
+    private EnrollmentOutcome outcome(EnrollmentRequest request, BatchEnrollmentItemResult result,
+            Enrollment enrollment) {
+        Long courseId = request.getCourseId();
+        return switch (result.getStatus()) {
+            case ENROLLED -> new EnrollmentOutcome(new EnrollmentResponse(
+                    enrollment.getId(),
+                    courseId,
+                    enrollment.getCourse().getTitle(),
+                    enrollment.getStudent().getFullName(),
+                    request.getEmail(),
+                    enrollment.getEnrollmentDate(),
+                    seatReservationEngine.getAvailableSpots(courseId)), null);
+            case DUPLICATE -> new EnrollmentOutcome(null, new DuplicateEnrollmentException(request.getEmail()));
+            case COURSE_FULL -> new EnrollmentOutcome(null, new CourseFullException(courseId));
+            case COURSE_NOT_FOUND -> new EnrollmentOutcome(null, new CourseNotFoundException(courseId));
+        };
+    }
+
+    private EnrollmentResponse enrollInTransaction(EnrollmentRequest request, KnownStudent known) {
+        try {
+            return transactionTemplate.execute(status -> enrollWithReservedSeat(request, known));
+        } catch (DataIntegrityViolationException ex) {
+            if (known == null || !violates(ex, Enrollment.STUDENT_FOREIGN_KEY)) {
+                throw ex;
+            }
+            // The cached student is gone from the database: resolve it again
+            membershipIndex.forgetStudent(request.getEmail());
+            return transactionTemplate.execute(status -> enrollWithReservedSeat(request, null));
+        }
+    }
+
+    /**
+     * Writes the enrollment in as few statements as possible: the course, the
+     * student upsert (skipped for a student known by email), the enrollment
+     * insert, the seat update and the outbox insert. Duplicates are not
+     * pre-checked; the (course_id, student_id) unique constraint rejects them
+     * on insert.
+     */
+    private EnrollmentResponse enrollWithReservedSeat(EnrollmentRequest request, KnownStudent known) {
         Course course = courseRepository.findById(request.getCourseId())
                 .orElseThrow(() -> new CourseNotFoundException(request.getCourseId()));
 
-        // Validate enrollment
-        validateEnrollment(course, request);
-
-        // Find or create student
-        Student student = studentRepository.findByEmail(request.getEmail())
-                .orElseGet(() -> {
-                    Student newStudent = new Student(request.getFullName(), request.getEmail());
-                    return studentRepository.save(newStudent);
-                });
+        // Find or create student in one statement, safe against a concurrent first enrollment
+        Student student;
+        String studentName;
+        if (known != null) {
+            student = studentRepository.getReferenceById(known.id());
+            studentName = known.fullName();
+        } else {
+            student = studentRepository.upsertByEmail(request.getFullName(), request.getEmail());
+            studentName = student.getFullName();
+        }
 
-        // Create enrollment
+        // Create enrollment, flushed now so a duplicate surfaces here
         Enrollment enrollment = new Enrollment(course, student);
-        enrollment = enrollmentRepository.save(enrollment);
+        enrollment.setTicketId(request.getTicketId());
+        try {
+            enrollment = enrollmentRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, Enrollment.COURSE_STUDENT_CONSTRAINT)) {
+                membershipIndex.rememberStudent(request.getEmail(), student.getId(), studentName);
+                membershipIndex.recordEnrollment(course.getId(), student.getId());
+                throw new DuplicateEnrollmentException(request.getEmail());
+            }
+            throw ex;
+        }
 
-        // Update enrolled count
-        course.setEnrolledCount(course.getEnrolledCount() + 1);
-        courseRepository.save(course);
+        // Take the seat last so the course row stays locked as briefly as possible.
+        // The database has the final word if the in-memory counter was stale, or the seat is the waitlist's.
+        if (courseRepository.incrementEnrolledCountIfAvailable(course.getId()) == 0) {
+            seatReservationEngine.evict(course.getId());
+            throw new CourseFullException(course.getId());
+        }
+        eventPublisher.publishEvent(new CourseSeatsChangedEvent(course.getId()));
+        // Commits with the enrollment or not at all; the relay announces it downstream
+        outboxRepository.save(new EnrollmentOutboxEvent(enrollment, request.getEmail()));
+
+        // Recorded before commit: if the commit fails these are stale hints, which stay harmless
+        membershipIndex.rememberStudent(request.getEmail(), student.getId(), studentName);
+        membershipIndex.recordEnrollment(course.getId(), student.getId());
 
         // Build response
         return new EnrollmentResponse(
                 enrollment.getId(),
                 course.getId(),
                 course.getTitle(),
-                student.getFullName(),
-                student.getEmail(),
+                studentName,
+                request.getEmail(),
                 enrollment.getEnrollmentDate(),
-                course.getAvailableSpots());
-    }
-
-    private void validateEnrollment(Course course, EnrollmentRequest request) {
-        // Check if course is full
-        if (course.isFull()) {
-            throw new CourseFullException(course.getId());
-        }
-
-        // Check if student is already enrolled
-        if (enrollmentRepository.existsByCourseIdAndStudentEmail(
-                course.getId(), request.getEmail())) {
-            throw new DuplicateEnrollmentException(request.getEmail());
-        }
+                seatReservationEngine.getAvailableSpots(course.getId()));
     }
 }
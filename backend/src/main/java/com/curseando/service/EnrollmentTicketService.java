@@ -0,0 +1,232 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.dto.EnrollmentTicketResponse;
+import com.curseando.exception.CourseFullException;
+import com.curseando.exception.CourseNotFoundException;
+import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.exception.EnrollmentContentionException;
+import com.curseando.exception.EnrollmentQueueFullException;
+import com.curseando.exception.EnrollmentTicketNotFoundException;
+import com.curseando.model.Enrollment;
+import com.curseando.model.EnrollmentTicket;
+import com.curseando.model.EnrollmentTicketStatus;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.EnrollmentTicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Asynchronous enrollments. {@link #submit} stores the request as a pending
+ * ticket and returns at once; the enrollment itself goes through the same
+ * per-course lanes as {@link EnrollmentAdmissionQueue#submit}, and its outcome
+ * is written back to the ticket for {@link #getTicket} to report.
+ *
+ * A ticket the lanes cannot take yet (its course queue is full, or the write
+ * was aborted under contention) is released and picked up again by the next
+ * sweep, so a burst larger than the queues waits in the table instead of being
+ * refused. Claims expire after {@code claim-timeout}, which also recovers
+ * tickets of an instance that stopped before finishing them.
+ */
+@Service
+public class EnrollmentTicketService implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentTicketService.class);
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+
+    private final EnrollmentTicketRepository ticketRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentAdmissionQueue admissionQueue;
+    private final WaitlistService waitlistService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final EnrollmentProperties.Tickets properties;
+
+    public EnrollmentTicketService(EnrollmentTicketRepository ticketRepository,
+            EnrollmentRepository enrollmentRepository,
+            EnrollmentAdmissionQueue admissionQueue,
+            WaitlistService waitlistService,
+            SeatReservationEngine seatReservationEngine,
+            EnrollmentProperties properties) {
+        this.ticketRepository = ticketRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.admissionQueue = admissionQueue;
+        this.waitlistService = waitlistService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.properties = properties.getTickets();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::sweep, properties.getSweepInterval());
+        taskRegistrar.addFixedDelayTask(this::purge, PURGE_INTERVAL);
+    }
+
+    /**
+     * Stores the request as a pending ticket, claimed by this instance, and
+     * hands it to its course lane.
+     */
+    public EnrollmentTicketResponse submit(EnrollmentRequest request) {
+        if (request.getCourseId() == null) {
+            throw new CourseNotFoundException(null);
+        }
+        EnrollmentTicket ticket = ticketRepository.save(
+                new EnrollmentTicket(request.getCourseId(), request.getFullName(), request.getEmail()));
+        dispatch(ticket, request);
+        return toResponse(ticket, null);
+    }
+
+    @Transactional(readOnly = true)
+    public EnrollmentTicketResponse getTicket(UUID id) {
+        EnrollmentTicket ticket = ticketRepository.findById(id)
+                .orElseThrow(() -> new EnrollmentTicketNotFoundException(id));
+        EnrollmentResponse enrollment = null;
+        if (ticket.getStatus() == EnrollmentTicketStatus.ENROLLED && ticket.getEnrollmentId() != null) {
+            enrollment = enrollmentRepository.findWithCourseAndStudentById(ticket.getEnrollmentId())
+                    .map(e -> new EnrollmentResponse(e.getId(), e.getCourse().getId(), e.getCourse().getTitle(),
+                            e.getStudent().getFullName(), e.getStudent().getEmail(), e.getEnrollmentDate(),
+                            seatReservationEngine.getAvailableSpots(e.getCourse().getId())))
+                    .orElse(null);
+        }
+        return toResponse(ticket, enrollment);
+    }
+
+    /**
+     * Hands out pending tickets that are unclaimed or whose claim expired,
+     * oldest first.
+     *
+     * @return the number of tickets dispatched
+     */
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiredBefore = now.minus(properties.getClaimTimeout());
+        int dispatched = 0;
+        for (EnrollmentTicket ticket : ticketRepository.findClaimable(expiredBefore,
+                Limit.of(properties.getSweepBatchSize()))) {
+            // Another instance may have claimed it since it was read
+            if (ticketRepository.claim(ticket.getId(), now, expiredBefore) == 1) {
+                dispatch(ticket,
+                        new EnrollmentRequest(ticket.getCourseId(), ticket.getFullName(), ticket.getEmail()));
+                dispatched++;
+            }
+        }
+        return dispatched;
+    }
+
+    void purge() {
+        int purged = ticketRepository.deleteCompletedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        if (purged > 0) {
+            log.debug("Purged {} finished enrollment tickets", purged);
+        }
+    }
+
+    private void dispatch(EnrollmentTicket ticket, EnrollmentRequest request) {
+        // Stamped on the enrollment, so a redelivery can recognize it
+        request.setTicketId(ticket.getId());
+        try {
+            admissionQueue.submit(request)
+                    .whenCompleteAsync((enrollment, failure) -> record(ticket, request, enrollment, failure),
+                            admissionQueue.followUps());
+        } catch (EnrollmentQueueFullException ex) {
+            ticketRepository.release(ticket.getId());
+        }
+    }
+
+    /**
+     * Writes the outcome of a ticket, off the lane that processed it. If
+     * the write fails, the ticket keeps its claim and is dispatched again once
+     * the claim expires. By then its enrollment may have committed, so the
+     * redelivery sees the student as already enrolled; see {@link #recordDuplicate}.
+     */
+    private void record(EnrollmentTicket ticket, EnrollmentRequest request, EnrollmentResponse enrollment,
+            Throwable failure) {
+        UUID id = ticket.getId();
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (cause == null) {
+                ticketRepository.complete(id, EnrollmentTicketStatus.ENROLLED, enrollment.getId(), null,
+                        null, null, now);
+            } else if (cause instanceof CourseFullException) {
+                recordWaitlisted(ticket, request, now);
+            } else if (cause instanceof EnrollmentContentionException) {
+                ticketRepository.release(id);
+            } else if (cause instanceof DuplicateEnrollmentException) {
+                recordDuplicate(ticket, cause, now);
+            } else if (cause instanceof CourseNotFoundException) {
+                reject(id, cause, now);
+            } else {
+                log.warn("Enrollment ticket {} failed", id, cause);
+                ticketRepository.complete(id, EnrollmentTicketStatus.REJECTED, null, null,
+                        "Internal Server Error", "An unexpected error occurred", now);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not record the outcome of enrollment ticket {}", id, ex);
+        }
+    }
+
+    private void recordWaitlisted(EnrollmentTicket ticket, EnrollmentRequest request, LocalDateTime now) {
+        Long position;
+        try {
+            position = waitlistService.join(request).getPosition();
+        } catch (DuplicateEnrollmentException ex) {
+            // The seat a redelivered ticket took earlier is why the course is full now
+            recordDuplicate(ticket, ex, now);
+            return;
+        }
+        ticketRepository.complete(ticket.getId(), EnrollmentTicketStatus.WAITLISTED, null, position,
+                null, null, now);
+    }
+
+    /**
+     * An enrollment stamped with this ticket's id is the ticket's own,
+     * committed by an earlier delivery whose outcome was never written. Any
+     * other enrollment of the student is a genuine duplicate.
+     */
+    private void recordDuplicate(EnrollmentTicket ticket, Throwable cause, LocalDateTime now) {
+        Long enrollmentId = enrollmentRepository
+                .findByCourseIdAndStudentEmail(ticket.getCourseId(), ticket.getEmail())
+                .filter(existing -> ticket.getId().equals(existing.getTicketId()))
+                .map(Enrollment::getId)
+                .orElse(null);
+        if (enrollmentId != null) {
+            ticketRepository.complete(ticket.getId(), EnrollmentTicketStatus.ENROLLED, enrollmentId, null,
+                    null, null, now);
+        } else {
+            reject(ticket.getId(), cause, now);
+        }
+    }
+
+    private void reject(UUID id, Throwable cause, LocalDateTime now) {
+        ticketRepository.complete(id, EnrollmentTicketStatus.REJECTED, null, null,
+                cause.getClass().getSimpleName(), cause.getMessage(), now);
+    }
+
+    private static EnrollmentTicketResponse toResponse(EnrollmentTicket ticket, EnrollmentResponse enrollment) {
+        EnrollmentTicketResponse response = new EnrollmentTicketResponse();
+        response.setId(ticket.getId());
+        response.setStatus(ticket.getStatus());
+        response.setCourseId(ticket.getCourseId());
+        response.setStudentEmail(ticket.getEmail());
+        response.setEnrollment(enrollment);
+        response.setWaitlistPosition(ticket.getWaitlistPosition());
+        response.setError(ticket.getError());
+        response.setMessage(ticket.getMessage());
+        response.setCreatedAt(ticket.getCreatedAt());
+        response.setCompletedAt(ticket.getCompletedAt());
+        return response;
+    }
+}
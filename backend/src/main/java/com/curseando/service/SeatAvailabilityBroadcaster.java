@@ -0,0 +1,273 @@
+package com.curseando.service;
+
+import com.curseando.config.AvailabilityStreamProperties;
+import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.dto.SeatAvailabilityDTO;
+import com.curseando.event.CourseSeatsChangedEvent;
+import com.curseando.exception.CourseNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes seat availability to Server-Sent Events subscribers, either of one
+ * course or of the whole catalog.
+ *
+ * Committed enrollments only mark their course dirty; a fixed-delay flush sends
+ * one event per dirty course, so a burst of enrollments inside a window costs
+ * one lookup and one event. Each event is built once and shared by every
+ * subscriber, and idle subscribers hold no thread, only a servlet async context.
+ *
+ * The scheduler only queues events. Each subscriber has a bounded backlog that
+ * a small pool of sender threads writes out, one write at a time per
+ * subscriber. A subscriber whose backlog fills up, or whose write has been
+ * blocked longer than the send timeout, is dropped, so a slow client costs at
+ * most one sender thread and never delays the flush or the heartbeat.
+ */
+@Service
+public class SeatAvailabilityBroadcaster implements SchedulingConfigurer, DisposableBean {
+
+    static final String EVENT_NAME = "availability";
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keep-alive").build();
+
+    private final CourseService courseService;
+    private final ObjectMapper objectMapper;
+    private final AvailabilityStreamProperties properties;
+    private final long sendTimeoutNanos;
+    private final ExecutorService senders;
+    private final ConcurrentMap<Long, Set<Subscriber>> courseSubscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> catalogSubscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyCourses = ConcurrentHashMap.newKeySet();
+
+    public SeatAvailabilityBroadcaster(CourseService courseService, ObjectMapper objectMapper,
+            AvailabilityStreamProperties properties) {
+        this.courseService = courseService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        // A subscriber has at most one drain task queued, so the queue is bounded by the subscribers
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(),
+                new CustomizableThreadFactory("availability-sender-"));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::flush, properties.getCoalesceWindow());
+        taskRegistrar.addFixedDelayTask(this::heartbeat, properties.getHeartbeatInterval());
+    }
+
+    /**
+     * Opens a stream for one course, starting with its current availability.
+     */
+    public SseEmitter subscribe(Long courseId) {
+        CourseDTO course = courseService.findById(courseId)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        subscriber.unsubscribe = () -> courseSubscribers.computeIfPresent(courseId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        onClose(emitter, subscriber.unsubscribe);
+
+        // The emitter buffers sends made before it is returned, so these never block
+        if (subscriber.sendNow(event(course.getId(), course.getAvailableSpots()))) {
+            courseSubscribers.computeIfAbsent(courseId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * Opens a stream for every course, starting with the availability of each.
+     */
+    public SseEmitter subscribeAll() {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        subscriber.unsubscribe = () -> catalogSubscribers.remove(subscriber);
+        onClose(emitter, subscriber.unsubscribe);
+
+        boolean open = true;
+        for (CourseSummaryDTO course : courseService.findAll()) {
+            open = open && subscriber.sendNow(event(course.getId(), course.getAvailableSpots()));
+        }
+        if (open) {
+            catalogSubscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onSeatsChanged(CourseSeatsChangedEvent event) {
+        dirtyCourses.add(event.courseId());
+    }
+
+    void flush() {
+        Iterator<Long> pending = dirtyCourses.iterator();
+        while (pending.hasNext()) {
+            Long courseId = pending.next();
+            pending.remove();
+
+            Set<Subscriber> subscribers = courseSubscribers.getOrDefault(courseId, Set.of());
+            if (subscribers.isEmpty() && catalogSubscribers.isEmpty()) {
+                continue;
+            }
+            courseService.findById(courseId).ifPresent(course -> {
+                Set<DataWithMediaType> event = event(course.getId(), course.getAvailableSpots());
+                subscribers.forEach(subscriber -> subscriber.enqueue(event));
+                catalogSubscribers.forEach(subscriber -> subscriber.enqueue(event));
+            });
+        }
+    }
+
+    void heartbeat() {
+        courseSubscribers.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> subscriber.enqueue(HEARTBEAT)));
+        catalogSubscribers.forEach(subscriber -> subscriber.enqueue(HEARTBEAT));
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+    }
+
+    int subscriberCount() {
+        return catalogSubscribers.size()
+                + courseSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getEmitterTimeout().toMillis());
+    }
+
+    private static void onClose(SseEmitter emitter, Runnable unsubscribe) {
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(() -> {
+            unsubscribe.run();
+            emitter.complete();
+        });
+        emitter.onError(ex -> unsubscribe.run());
+    }
+
+    private Set<DataWithMediaType> event(Long courseId, Integer availableSpots) {
+        try {
+            String json = objectMapper.writeValueAsString(new SeatAvailabilityDTO(courseId, availableSpots));
+            return SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * One stream and the events waiting to be written to it.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> backlog;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendingSince;
+        private volatile boolean dropped;
+        private Runnable unsubscribe;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.backlog = new ArrayBlockingQueue<>(properties.getSubscriberBacklog());
+        }
+
+        void enqueue(Set<DataWithMediaType> event) {
+            long since = sendingSince;
+            if (since != 0 && System.nanoTime() - since > sendTimeoutNanos) {
+                drop();
+            } else if (!backlog.offer(event)) {
+                drop();
+            } else {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Writes on the calling thread.
+         *
+         * @return false if the stream is gone, in which case it has been dropped
+         */
+        boolean sendNow(Set<DataWithMediaType> event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the stream already completed
+                drop();
+                return false;
+            }
+        }
+
+        private void scheduleDrain() {
+            if (dropped || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                // Shutting down
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!dropped && (event = backlog.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    try {
+                        sendNow(event);
+                    } finally {
+                        sendingSince = 0;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // An event queued after the last poll but before draining was cleared
+            if (!backlog.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Stops writing to this stream; a write still blocked on it ends when the
+         * connection or the emitter times out.
+         */
+        private void drop() {
+            dropped = true;
+            backlog.clear();
+            unsubscribe.run();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.exception.CourseNotFoundException;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-course seat counters held in memory and updated with compare-and-set, so
+ * capacity is decided without holding a database transaction.
+ *
+ * The database stays the source of truth: a counter is loaded from the course
+ * row the first time a course is seen and can be evicted to force a reload.
+ * Seats are handed back through the {@link Reservation} that won them, which
+ * remembers its counter: once that counter has been evicted, the reload
+ * already reflects the database and handing the seats back changes nothing.
+ *
+ * A counter that says "full" is never corrected by the database on its own:
+ * no seat update reaches the database for a course that is full in memory.
+ * So once the counter is older than the full-recheck interval, the first
+ * request turned away by it reloads the course row and tries again; the others
+ * keep answering from memory meanwhile.
+ */
+@Component
+public class SeatReservationEngine {
+
+    private final CourseRepository courseRepository;
+    private final long fullRecheckNanos;
+    private final ConcurrentMap<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+
+    public SeatReservationEngine(CourseRepository courseRepository, EnrollmentProperties properties) {
+        this.courseRepository = courseRepository;
+        this.fullRecheckNanos = properties.getAdmission().getFullRecheckInterval().toNanos();
+    }
+
+    /**
+     * Tries to take one seat in the given course.
+     *
+     * @return the reservation, empty if the course is full
+     * @throws CourseNotFoundException if the course does not exist
+     */
+    public Reservation tryReserve(Long courseId) {
+        return tryReserve(courseId, 1);
+    }
+
+    /**
+     * Tries to take up to {@code seats} seats in the given course.
+     *
+     * @return the reservation, holding between 0 and {@code seats} seats
+     * @throws CourseNotFoundException if the course does not exist
+     */
+    public Reservation tryReserve(Long courseId, int seats) {
+        SeatCounter counter = counterFor(courseId);
+        int granted = counter.tryReserve(seats);
+        if (granted == 0 && counter.claimRecheck(fullRecheckNanos)) {
+            counter = reload(courseId, counter);
+            granted = counter.tryReserve(seats);
+        }
+        return new Reservation(counter, granted);
+    }
+
+    public Integer getAvailableSpots(Long courseId) {
+        return counterFor(courseId).getAvailableSpots();
+    }
+
+    /**
+     * Drops the cached counter so the next reservation reloads it from the database.
+     */
+    public void evict(Long courseId) {
+        counters.remove(courseId);
+    }
+
+    private SeatCounter counterFor(Long courseId) {
+        SeatCounter counter = counters.get(courseId);
+        if (counter != null) {
+            return counter;
+        }
+
+        // Load outside computeIfAbsent so the map is never locked during I/O
+        SeatCounter loaded = load(courseId);
+        return counters.computeIfAbsent(courseId, id -> loaded);
+    }
+
+    private SeatCounter reload(Long courseId, SeatCounter stale) {
+        SeatCounter loaded;
+        try {
+            loaded = load(courseId);
+        } catch (RuntimeException ex) {
+            // The stale counter has used up its recheck; the next request loads a new one
+            counters.remove(courseId, stale);
+            throw ex;
+        }
+        // Lost to an eviction and reload in the meantime: that counter is as fresh
+        return counters.replace(courseId, stale, loaded) ? loaded : counterFor(courseId);
+    }
+
+    private SeatCounter load(Long courseId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+        return new SeatCounter(course.getMaxCapacity(), course.getEnrolledCount());
+    }
+
+    /**
+     * Seats won from one counter, to be handed back if they are not used.
+     */
+    public static final class Reservation {
+
+        private final SeatCounter counter;
+        private final int seats;
+
+        Reservation(SeatCounter counter, int seats) {
+            this.counter = counter;
+            this.seats = seats;
+        }
+
+        public int seats() {
+            return seats;
+        }
+
+        public boolean isEmpty() {
+            return seats == 0;
+        }
+
+        /**
+         * Hands the seats back to the counter they came from; a no-op on the
+         * current counter if that one has been evicted and reloaded since.
+         */
+        public void release() {
+            if (seats > 0) {
+                counter.release(seats);
+            }
+        }
+    }
+
+    static final class SeatCounter {
+
+        private final int capacity;
+        private final AtomicInteger reserved;
+        private final long loadedAt = System.nanoTime();
+        private final AtomicBoolean rechecked = new AtomicBoolean();
+
+        SeatCounter(int capacity, int reserved) {
+            this.capacity = capacity;
+            this.reserved = new AtomicInteger(reserved);
+        }
+
+        int tryReserve(int seats) {
+            int current;
+            int granted;
+            do {
+                current = reserved.get();
+                granted = Math.min(seats, capacity - current);
+                if (granted <= 0) {
+                    return 0;
+                }
+            } while (!reserved.compareAndSet(current, current + granted));
+            return granted;
+        }
+
+        void release(int seats) {
+            reserved.updateAndGet(current -> Math.max(0, current - seats));
+        }
+
+        /**
+         * True for the one caller that should reload this counter, once it is
+         * older than {@code recheckNanos}.
+         */
+        boolean claimRecheck(long recheckNanos) {
+            return System.nanoTime() - loadedAt >= recheckNanos && rechecked.compareAndSet(false, true);
+        }
+
+        int getAvailableSpots() {
+            return Math.max(0, capacity - reserved.get());
+        }
+    }
+}
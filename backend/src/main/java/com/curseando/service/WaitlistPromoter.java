@@ -0,0 +1,132 @@
+package com.curseando.service;
+
+import com.curseando.config.WaitlistProperties;
+import com.curseando.dto.BatchEnrollmentItemResult;
+import com.curseando.dto.BatchEnrollmentResponse;
+import com.curseando.dto.BatchEnrollmentStatus;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.model.Student;
+import com.curseando.model.WaitlistEntry;
+import com.curseando.repository.WaitlistEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves waitlisted students into enrollments when seats appear, whether from
+ * a raised capacity or a freed seat.
+ *
+ * Each run asks the database which courses have free seats and a queue, then
+ * feeds the head of each queue, in ticket order, through
+ * {@link BatchEnrollmentService} in one transaction per course. Students who
+ * got a seat (or were already enrolled) leave the queue; the rest keep their
+ * place. Promoted students are counted in {@code waitlist.promoted} and each
+ * course batch is timed in {@code waitlist.promotion}, which together give the
+ * promotion throughput.
+ */
+@Service
+public class WaitlistPromoter implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistPromoter.class);
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final BatchEnrollmentService batchEnrollmentService;
+    private final SeatReservationEngine seatReservationEngine;
+    private final WaitlistProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter promoted;
+    private final Timer batches;
+
+    public WaitlistPromoter(WaitlistEntryRepository waitlistEntryRepository,
+            BatchEnrollmentService batchEnrollmentService,
+            SeatReservationEngine seatReservationEngine,
+            WaitlistProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.batchEnrollmentService = batchEnrollmentService;
+        this.seatReservationEngine = seatReservationEngine;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.promoted = Counter.builder("waitlist.promoted")
+                .description("Waitlisted students enrolled by the promoter")
+                .register(meterRegistry);
+        this.batches = Timer.builder("waitlist.promotion")
+                .description("Promotion transactions, one per course and run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::promoteAll, properties.getPromotionInterval());
+    }
+
+    /**
+     * @return the number of students enrolled from waitlists
+     */
+    public int promoteAll() {
+        int total = 0;
+        for (Long courseId : waitlistEntryRepository.findPromotableCourseIds()) {
+            try {
+                total += promote(courseId);
+            } catch (RuntimeException ex) {
+                log.warn("Waitlist promotion for course {} failed, retrying on the next run", courseId, ex);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Promotes up to one batch from the head of a course's waitlist.
+     *
+     * @return the number of students enrolled
+     */
+    public int promote(Long courseId) {
+        // Seats may have appeared without the in-memory counter knowing: reload it
+        seatReservationEngine.evict(courseId);
+        try {
+            int enrolled = batches.record(() -> transactionTemplate.execute(status -> promoteHead(courseId)));
+            promoted.increment(enrolled);
+            return enrolled;
+        } catch (RuntimeException ex) {
+            // Drops seats held in memory by the rolled back batch
+            seatReservationEngine.evict(courseId);
+            throw ex;
+        }
+    }
+
+    private int promoteHead(Long courseId) {
+        List<WaitlistEntry> head = waitlistEntryRepository.findHead(courseId,
+                Limit.of(properties.getPromotionBatchSize()));
+        List<EnrollmentRequest> requests = head.stream()
+                .map(entry -> {
+                    Student student = entry.getStudent();
+                    return new EnrollmentRequest(courseId, student.getFullName(), student.getEmail());
+                })
+                .toList();
+        BatchEnrollmentResponse response = batchEnrollmentService.enrollAll(requests);
+
+        // Seats go out in request order, so the students still waiting are a suffix of the head
+        List<WaitlistEntry> served = new ArrayList<>();
+        for (BatchEnrollmentItemResult result : response.getResults()) {
+            if (result.getStatus() != BatchEnrollmentStatus.COURSE_FULL) {
+                served.add(head.get(result.getIndex()));
+            }
+        }
+        waitlistEntryRepository.deleteAllInBatch(served);
+        return response.getEnrolled();
+    }
+}
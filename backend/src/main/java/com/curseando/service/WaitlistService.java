@@ -0,0 +1,130 @@
+package com.curseando.service;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.WaitlistPositionResponse;
+import com.curseando.exception.CourseNotFoundException;
+import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.exception.WaitlistEntryNotFoundException;
+import com.curseando.model.Course;
+import com.curseando.model.Student;
+import com.curseando.model.WaitlistEntry;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.repository.WaitlistEntryRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.curseando.service.ConstraintViolations.violates;
+
+/**
+ * Per-course waitlists for full courses.
+ *
+ * Tickets are handed out from an in-memory counter per course, seeded from the
+ * highest stored ticket, and {@link WaitlistPromoter} always serves the lowest
+ * ticket first. A position is therefore the student's ticket minus the lowest
+ * waiting ticket, read with two index lookups however long the queue is. A join
+ * that fails after taking a ticket leaves a gap, so positions can be overstated
+ * by a few places, never understated.
+ */
+@Service
+public class WaitlistService {
+
+    private static final int MAX_TICKET_ATTEMPTS = 3;
+
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<Long, AtomicLong> lastTickets = new ConcurrentHashMap<>();
+
+    public WaitlistService(CourseRepository courseRepository,
+            StudentRepository studentRepository,
+            EnrollmentRepository enrollmentRepository,
+            WaitlistEntryRepository waitlistEntryRepository,
+            PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * Puts the student at the back of the course's waitlist. Joining again
+     * keeps the original place.
+     *
+     * @throws DuplicateEnrollmentException if the student is already enrolled
+     */
+    public WaitlistPositionResponse join(EnrollmentRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long ticket = transactionTemplate.execute(status -> joinInTransaction(request));
+                return position(request.getCourseId(), request.getEmail(), ticket);
+            } catch (DataIntegrityViolationException ex) {
+                if (violates(ex, WaitlistEntry.COURSE_STUDENT_CONSTRAINT)) {
+                    // The same student joined concurrently and got there first
+                    return getPosition(request.getCourseId(), request.getEmail());
+                }
+                if (!violates(ex, WaitlistEntry.COURSE_TICKET_CONSTRAINT) || attempt >= MAX_TICKET_ATTEMPTS) {
+                    throw ex;
+                }
+                // Another instance handed out the same ticket: reseed from the database
+                lastTickets.remove(request.getCourseId());
+            }
+        }
+    }
+
+    /**
+     * @throws WaitlistEntryNotFoundException if the student is not waiting for this course
+     */
+    public WaitlistPositionResponse getPosition(Long courseId, String email) {
+        Long ticket = waitlistEntryRepository.findTicket(courseId, email)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(courseId, email));
+        return position(courseId, email, ticket);
+    }
+
+    private Long joinInTransaction(EnrollmentRequest request) {
+        Long courseId = request.getCourseId();
+        if (enrollmentRepository.existsByCourseIdAndStudentEmail(courseId, request.getEmail())) {
+            throw new DuplicateEnrollmentException(request.getEmail());
+        }
+        Long existing = waitlistEntryRepository.findTicket(courseId, request.getEmail()).orElse(null);
+        if (existing != null) {
+            return existing;
+        }
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+        Student student = studentRepository.upsertByEmail(request.getFullName(), request.getEmail());
+        long ticket = nextTicket(courseId);
+        waitlistEntryRepository.saveAndFlush(new WaitlistEntry(course, student, ticket));
+        return ticket;
+    }
+
+    private long nextTicket(Long courseId) {
+        AtomicLong last = lastTickets.get(courseId);
+        if (last == null) {
+            // Load outside computeIfAbsent so the map is never locked during I/O
+            Long tail = waitlistEntryRepository.findTailTicket(courseId);
+            last = lastTickets.computeIfAbsent(courseId, id -> new AtomicLong(tail != null ? tail : 0));
+        }
+        return last.incrementAndGet();
+    }
+
+    private WaitlistPositionResponse position(Long courseId, String email, Long ticket) {
+        Long head = waitlistEntryRepository.findHeadTicket(courseId);
+        // No head, or a head past the ticket: promoted since the ticket was read
+        long position = head == null ? 1 : Math.max(1, ticket - head + 1);
+        return new WaitlistPositionResponse(courseId, email, position);
+    }
+}
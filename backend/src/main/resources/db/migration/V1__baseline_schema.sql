@@ -0,0 +1,41 @@
+-- Schema as Hibernate used to create it with ddl-auto=update. Every statement is
+-- idempotent, so this also runs cleanly on databases created that way (Flyway
+-- baselines them at version 0 and then applies V1 on top).
+
+CREATE SEQUENCE IF NOT EXISTS courses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS students_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS enrollments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS courses (
+    id             BIGINT       NOT NULL,
+    title          VARCHAR(200) NOT NULL,
+    instructor     VARCHAR(100) NOT NULL,
+    duration       VARCHAR(50)  NOT NULL,
+    difficulty     VARCHAR(20)  NOT NULL CHECK (difficulty IN ('BEGINNER', 'INTERMEDIATE', 'ADVANCED')),
+    description    TEXT,
+    max_capacity   INTEGER      NOT NULL,
+    enrolled_count INTEGER      NOT NULL,
+    version        BIGINT       DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Added after the first deployments
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS students (
+    id        BIGINT       NOT NULL,
+    full_name VARCHAR(200) NOT NULL,
+    email     VARCHAR(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS enrollments (
+    id              BIGINT       NOT NULL,
+    course_id       BIGINT       NOT NULL,
+    student_id      BIGINT       NOT NULL,
+    enrollment_date TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (course_id, student_id),
+    CONSTRAINT fk_enrollments_course FOREIGN KEY (course_id) REFERENCES courses,
+    CONSTRAINT fk_enrollments_student FOREIGN KEY (student_id) REFERENCES students
+);
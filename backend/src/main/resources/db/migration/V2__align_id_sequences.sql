@@ -0,0 +1,6 @@
+-- Moves the pooled id sequences (increment 50) past rows created before ids came
+-- from them, i.e. with the former BIGSERIAL columns. Never moves a sequence
+-- backwards.
+SELECT setval('courses_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM courses) + 50, (SELECT last_value FROM courses_seq)));
+SELECT setval('students_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM students) + 50, (SELECT last_value FROM students_seq)));
+SELECT setval('enrollments_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM enrollments) + 50, (SELECT last_value FROM enrollments_seq)));
@@ -0,0 +1,14 @@
+-- Catalog filtered by difficulty, in id order: findSummariesByDifficulty and
+-- keyset pages with a difficulty, which then seek instead of filtering the
+-- whole primary key.
+CREATE INDEX IF NOT EXISTS idx_courses_difficulty_id ON courses (difficulty, id);
+
+-- Courses with seats left: findAvailableCourses and available=true pages.
+-- Partial, so full courses cost nothing to skip and drop out of the index.
+CREATE INDEX IF NOT EXISTS idx_courses_available_id ON courses (id)
+    WHERE enrolled_count < max_capacity;
+
+-- Enrollments of a student. Lookups by course need no extra index: the
+-- (course_id, student_id) unique index leads with course_id and covers the
+-- count and duplicate checks as index-only scans.
+CREATE INDEX IF NOT EXISTS idx_enrollments_student_id ON enrollments (student_id);
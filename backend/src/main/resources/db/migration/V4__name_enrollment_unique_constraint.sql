@@ -0,0 +1,21 @@
+-- The service recognises duplicate enrollments by the name of the violated
+-- constraint, so give the (course_id, student_id) unique constraint a fixed
+-- name. Earlier schemas let Postgres pick one (enrollments_course_id_student_id_key).
+DO $$
+DECLARE
+    existing TEXT;
+BEGIN
+    SELECT con.conname INTO existing
+    FROM pg_constraint con
+    WHERE con.conrelid = 'enrollments'::regclass
+      AND con.contype = 'u'
+      AND con.conkey = ARRAY[
+          (SELECT attnum FROM pg_attribute WHERE attrelid = 'enrollments'::regclass AND attname = 'course_id'),
+          (SELECT attnum FROM pg_attribute WHERE attrelid = 'enrollments'::regclass AND attname = 'student_id')];
+
+    IF existing IS NULL THEN
+        ALTER TABLE enrollments ADD CONSTRAINT uk_enrollments_course_student UNIQUE (course_id, student_id);
+    ELSIF existing <> 'uk_enrollments_course_student' THEN
+        EXECUTE format('ALTER TABLE enrollments RENAME CONSTRAINT %I TO uk_enrollments_course_student', existing);
+    END IF;
+END $$;
@@ -0,0 +1,20 @@
+-- A cached student id that no longer exists is recognised by the name of the
+-- violated foreign key, so give enrollments.student_id's key a fixed name.
+-- Schemas created by Hibernate have a generated one (FK...).
+DO $$
+DECLARE
+    existing TEXT;
+BEGIN
+    SELECT con.conname INTO existing
+    FROM pg_constraint con
+    WHERE con.conrelid = 'enrollments'::regclass
+      AND con.contype = 'f'
+      AND con.conkey = ARRAY[
+          (SELECT attnum FROM pg_attribute WHERE attrelid = 'enrollments'::regclass AND attname = 'student_id')];
+
+    IF existing IS NULL THEN
+        ALTER TABLE enrollments ADD CONSTRAINT fk_enrollments_student FOREIGN KEY (student_id) REFERENCES students;
+    ELSIF existing <> 'fk_enrollments_student' THEN
+        EXECUTE format('ALTER TABLE enrollments RENAME CONSTRAINT %I TO fk_enrollments_student', existing);
+    END IF;
+END $$;
@@ -0,0 +1,16 @@
+-- Students waiting for a seat in a full course, promoted in ticket order.
+CREATE SEQUENCE waitlist_entries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE waitlist_entries (
+    id         BIGINT       NOT NULL,
+    course_id  BIGINT       NOT NULL,
+    student_id BIGINT       NOT NULL,
+    ticket     BIGINT       NOT NULL,
+    joined_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_waitlist_course_student UNIQUE (course_id, student_id),
+    -- Its index also serves the head lookup (MIN ticket) and promotion order
+    CONSTRAINT uk_waitlist_course_ticket UNIQUE (course_id, ticket),
+    CONSTRAINT fk_waitlist_course FOREIGN KEY (course_id) REFERENCES courses,
+    CONSTRAINT fk_waitlist_student FOREIGN KEY (student_id) REFERENCES students
+);
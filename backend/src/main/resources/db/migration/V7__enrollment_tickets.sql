@@ -0,0 +1,22 @@
+-- Enrollment requests accepted by the asynchronous API, kept until processed and then for a retention period.
+CREATE TABLE enrollment_tickets (
+    id                UUID         NOT NULL,
+    course_id         BIGINT       NOT NULL,
+    full_name         VARCHAR(200) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    status            VARCHAR(20)  NOT NULL CHECK (status IN ('PENDING', 'ENROLLED', 'WAITLISTED', 'REJECTED')),
+    claimed_at        TIMESTAMP(6),
+    enrollment_id     BIGINT,
+    waitlist_position BIGINT,
+    error             VARCHAR(100),
+    message           VARCHAR(500),
+    created_at        TIMESTAMP(6) NOT NULL,
+    completed_at      TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+-- The sweeper only ever looks for pending tickets, oldest first
+CREATE INDEX idx_enrollment_tickets_pending ON enrollment_tickets (created_at) WHERE status = 'PENDING';
+
+-- Completed tickets are purged once they are older than the retention period
+CREATE INDEX idx_enrollment_tickets_completed ON enrollment_tickets (completed_at) WHERE status <> 'PENDING';
@@ -0,0 +1,15 @@
+-- Enrollment events written with each enrollment and deleted once the relay has published them.
+-- No foreign keys: an event must still be delivered if its enrollment is removed meanwhile.
+CREATE SEQUENCE enrollment_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE enrollment_outbox (
+    id            BIGINT       NOT NULL,
+    enrollment_id BIGINT       NOT NULL,
+    course_id     BIGINT       NOT NULL,
+    student_id    BIGINT       NOT NULL,
+    student_email VARCHAR(255) NOT NULL,
+    enrolled_at   TIMESTAMP(6) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    -- The relay takes the lowest ids first, straight from this index
+    PRIMARY KEY (id)
+);
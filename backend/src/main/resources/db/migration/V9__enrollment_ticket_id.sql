@@ -0,0 +1,3 @@
+-- The asynchronous ticket an enrollment was made for, so a redelivered ticket can tell its own
+-- enrollment from anyone else's. Null for enrollments made through the synchronous API.
+ALTER TABLE enrollments ADD COLUMN ticket_id UUID;
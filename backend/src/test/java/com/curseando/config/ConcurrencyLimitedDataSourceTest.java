@@ -0,0 +1,81 @@
+package com.curseando.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource Tests")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("getConnection() should time out once every slot is taken")
+    void getConnection_ShouldTimeOutWhenAllSlotsTaken() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When/Then
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getActive()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Closing a connection should free its slot exactly once")
+    void close_ShouldReleaseSlotOnce() throws SQLException {
+        // Given
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+        Connection connection = dataSource.getConnection();
+
+        // When
+        connection.close();
+        connection.close();
+
+        // Then
+        verify(pooled, times(2)).close();
+        assertThat(dataSource.getActive()).isZero();
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThat(dataSource.getActive()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getConnection() should give the slot back when the pool fails")
+    void getConnection_ShouldReleaseSlotWhenPoolFails() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When/Then
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        assertThat(dataSource.getActive()).isZero();
+    }
+}
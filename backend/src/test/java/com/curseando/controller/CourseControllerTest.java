@@ -1,28 +1,44 @@
 package com.curseando.controller;
 
 import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CoursePage;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.config.AvailabilityStreamProperties;
+import com.curseando.config.CatalogProperties;
 import com.curseando.model.DifficultyLevel;
+import com.curseando.service.CatalogSnapshotService;
 import com.curseando.service.CourseService;
+import com.curseando.service.SeatAvailabilityBroadcaster;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CourseController.class)
+@Import({ CatalogSnapshotService.class, CatalogProperties.class,
+                SeatAvailabilityBroadcaster.class, AvailabilityStreamProperties.class })
 @DisplayName("CourseController Tests")
 class CourseControllerTest {
 
@@ -35,15 +51,26 @@ class CourseControllerTest {
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private CatalogSnapshotService catalogSnapshotService;
+
+        @Autowired
+        private SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+
+        @BeforeEach
+        void setUp() {
+                catalogSnapshotService.invalidate();
+        }
+
         @Test
         @DisplayName("GET /api/courses should return all courses")
         void getAllCourses_ShouldReturnAllCourses() throws Exception {
                 // Given
-                CourseDTO course1 = new CourseDTO(1L, "Course 1", "Instructor 1", "40 hours",
-                                DifficultyLevel.BEGINNER, "Description 1", 50, 25);
-                CourseDTO course2 = new CourseDTO(2L, "Course 2", "Instructor 2", "60 hours",
-                                DifficultyLevel.INTERMEDIATE, "Description 2", 30, 15);
-                List<CourseDTO> courses = Arrays.asList(course1, course2);
+                CourseSummaryDTO course1 = new CourseSummaryDTO(1L, "Course 1", "Instructor 1", "40 hours",
+                                DifficultyLevel.BEGINNER, "Description 1", 50, 25, null);
+                CourseSummaryDTO course2 = new CourseSummaryDTO(2L, "Course 2", "Instructor 2", "60 hours",
+                                DifficultyLevel.INTERMEDIATE, "Description 2", 30, 15, null);
+                List<CourseSummaryDTO> courses = Arrays.asList(course1, course2);
 
                 when(courseService.findAll()).thenReturn(courses);
 
@@ -54,17 +81,37 @@ class CourseControllerTest {
                                 .andExpect(jsonPath("$").isArray())
                                 .andExpect(jsonPath("$[0].id").value(1L))
                                 .andExpect(jsonPath("$[0].title").value("Course 1"))
+                                .andExpect(jsonPath("$[0].teaser").value("Description 1"))
+                                .andExpect(jsonPath("$[0].description").doesNotExist())
                                 .andExpect(jsonPath("$[1].id").value(2L))
                                 .andExpect(jsonPath("$[1].title").value("Course 2"));
         }
 
+        @Test
+        @DisplayName("GET /api/courses should serve repeated requests from the prebuilt snapshot")
+        void getAllCourses_ShouldServeRepeatedRequestsFromSnapshot() throws Exception {
+                // Given
+                CourseSummaryDTO course = new CourseSummaryDTO(1L, "Course 1", "Instructor 1", "40 hours",
+                                DifficultyLevel.BEGINNER, "Description 1", 50, 25, null);
+                when(courseService.findAll()).thenReturn(List.of(course));
+
+                // When
+                mockMvc.perform(get("/api/courses")).andExpect(status().isOk());
+                mockMvc.perform(get("/api/courses"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().json(objectMapper.writeValueAsString(List.of(course))));
+
+                // Then
+                verify(courseService, times(1)).findAll();
+        }
+
         @Test
         @DisplayName("GET /api/courses?difficulty=BEGINNER should filter correctly")
         void getAllCourses_WithDifficultyFilter_ShouldFilterCorrectly() throws Exception {
                 // Given
-                CourseDTO beginnerCourse = new CourseDTO(1L, "Beginner Course", "Instructor",
-                                "40 hours", DifficultyLevel.BEGINNER, "Description", 50, 25);
-                List<CourseDTO> courses = Collections.singletonList(beginnerCourse);
+                CourseSummaryDTO beginnerCourse = new CourseSummaryDTO(1L, "Beginner Course", "Instructor",
+                                "40 hours", DifficultyLevel.BEGINNER, "Description", 50, 25, null);
+                List<CourseSummaryDTO> courses = Collections.singletonList(beginnerCourse);
 
                 when(courseService.findByDifficulty(DifficultyLevel.BEGINNER)).thenReturn(courses);
 
@@ -77,6 +124,42 @@ class CourseControllerTest {
                                 .andExpect(jsonPath("$[0].difficulty").value("BEGINNER"));
         }
 
+        @Test
+        @DisplayName("GET /api/courses?limit=2 should return a keyset page instead of the snapshot")
+        void getAllCourses_WithLimit_ShouldReturnPage() throws Exception {
+                // Given
+                CourseSummaryDTO course = new CourseSummaryDTO(21L, "Course 21", "Instructor", "40 hours",
+                                DifficultyLevel.BEGINNER, "Description", 50, 25, null);
+                when(courseService.findPage(20L, 2, DifficultyLevel.BEGINNER, true))
+                                .thenReturn(new CoursePage(List.of(course), 21L));
+
+                // When/Then
+                mockMvc.perform(get("/api/courses")
+                                .param("after", "20")
+                                .param("limit", "2")
+                                .param("difficulty", "BEGINNER")
+                                .param("available", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].id").value(21L))
+                                .andExpect(jsonPath("$.nextCursor").value(21L));
+                verify(courseService, times(0)).findByDifficulty(any());
+        }
+
+        @Test
+        @DisplayName("GET /api/courses should clamp the page size to the configured maximum")
+        void getAllCourses_WithOversizedLimit_ShouldClampPageSize() throws Exception {
+                // Given
+                when(courseService.findPage(null, 100, null, false))
+                                .thenReturn(new CoursePage(List.of(), null));
+
+                // When/Then
+                mockMvc.perform(get("/api/courses").param("limit", "5000"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items").isEmpty())
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+                verify(courseService).findPage(null, 100, null, false);
+        }
+
         @Test
         @DisplayName("GET /api/courses/{id} should return course when exists")
         void getCourseById_ShouldReturnCourseWhenExists() throws Exception {
@@ -105,4 +188,124 @@ class CourseControllerTest {
                 mockMvc.perform(get("/api/courses/999"))
                                 .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("GET /api/courses should answer 304 when the catalog ETag still matches")
+        void getAllCourses_ShouldReturn304WhenEtagMatches() throws Exception {
+                // Given
+                CourseSummaryDTO course = new CourseSummaryDTO(1L, "Course 1", "Instructor 1", "40 hours",
+                                DifficultyLevel.BEGINNER, "Description 1", 50, 25, 3L);
+                when(courseService.findAll()).thenReturn(List.of(course));
+                String etag = mockMvc.perform(get("/api/courses"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                // When/Then
+                mockMvc.perform(get("/api/courses").header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().string(""));
+                verify(courseService, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("GET /api/courses should serve the precompressed catalog to gzip clients")
+        void getAllCourses_ShouldServePrecompressedGzip() throws Exception {
+                // Given
+                List<CourseSummaryDTO> courses = LongStream.rangeClosed(1, 30)
+                                .mapToObj(id -> new CourseSummaryDTO(id, "Course " + id, "Instructor", "40 hours",
+                                                DifficultyLevel.BEGINNER, "Description", 50, 25, 1L))
+                                .toList();
+                when(courseService.findAll()).thenReturn(courses);
+                byte[] gzip = catalogSnapshotService.getAll().getGzip();
+
+                // When/Then
+                String etag = mockMvc.perform(get("/api/courses").header("Accept-Encoding", "br, gzip;q=0.8"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Encoding", "gzip"))
+                                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                                .andExpect(content().bytes(gzip))
+                                .andReturn().getResponse().getHeader("ETag");
+                mockMvc.perform(get("/api/courses").header("Accept-Encoding", "gzip").header("If-None-Match", etag))
+                                .andExpect(status().isNotModified());
+                mockMvc.perform(get("/api/courses").header("Accept-Encoding", "gzip;q=0, identity"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist("Content-Encoding"))
+                                .andExpect(jsonPath("$[29].id").value(30L));
+        }
+
+        @Test
+        @DisplayName("GET /api/courses/{id} should answer 304 when the course version is unchanged")
+        void getCourseById_ShouldReturn304WhenVersionUnchanged() throws Exception {
+                // Given
+                CourseDTO course = new CourseDTO(1L, "Course 1", "Instructor 1", "40 hours",
+                                DifficultyLevel.BEGINNER, "Description 1", 50, 25, 7L);
+                when(courseService.findById(1L)).thenReturn(Optional.of(course));
+
+                // When/Then
+                mockMvc.perform(get("/api/courses/1").header("If-None-Match", "W/\"course-1-v7\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+                mockMvc.perform(get("/api/courses/1").header("If-None-Match", "W/\"course-1-v6\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"course-1-v7\""))
+                                .andExpect(jsonPath("$.version").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("GET /api/courses/{id}/availability/stream should open a stream with the current availability")
+        void streamAvailability_ShouldStartWithCurrentAvailability() throws Exception {
+                // Given
+                CourseDTO course = new CourseDTO(1L, "Course 1", "Instructor 1", "40 hours",
+                                DifficultyLevel.BEGINNER, "Description 1", 50, 25, 7L);
+                when(courseService.findById(1L)).thenReturn(Optional.of(course));
+
+                // When
+                MvcResult result = mockMvc.perform(get("/api/courses/1/availability/stream")
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                // Then
+                assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+                assertThat(result.getResponse().getContentAsString())
+                                .contains("event:availability")
+                                .contains("data:{\"courseId\":1,\"availableSpots\":25}");
+                result.getRequest().getAsyncContext().complete();
+        }
+
+        @Test
+        @DisplayName("GET /api/courses/availability/stream should start with every course")
+        void streamAllAvailability_ShouldStartWithEveryCourse() throws Exception {
+                // Given
+                when(courseService.findAll()).thenReturn(List.of(
+                                new CourseSummaryDTO(1L, "Course 1", "Instructor 1", "40 hours",
+                                                DifficultyLevel.BEGINNER, "Description 1", 50, 25, null),
+                                new CourseSummaryDTO(2L, "Course 2", "Instructor 2", "60 hours",
+                                                DifficultyLevel.ADVANCED, "Description 2", 30, 30, null)));
+
+                // When
+                MvcResult result = mockMvc.perform(get("/api/courses/availability/stream")
+                                .accept(MediaType.TEXT_EVENT_STREAM))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                // Then
+                assertThat(result.getResponse().getContentAsString())
+                                .contains("data:{\"courseId\":1,\"availableSpots\":25}")
+                                .contains("data:{\"courseId\":2,\"availableSpots\":0}");
+                result.getRequest().getAsyncContext().complete();
+        }
+
+        @Test
+        @DisplayName("GET /api/courses/{id}/availability/stream should return 404 for an unknown course")
+        void streamAvailability_ShouldReturn404WhenNotFound() throws Exception {
+                // Given
+                when(courseService.findById(999L)).thenReturn(Optional.empty());
+
+                // When/Then
+                mockMvc.perform(get("/api/courses/999/availability/stream"))
+                                .andExpect(status().isNotFound());
+        }
 }
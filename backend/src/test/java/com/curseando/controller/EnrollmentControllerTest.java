@@ -1,12 +1,27 @@
 package com.curseando.controller;
 
+import com.curseando.dto.BatchEnrollmentItemResult;
+import com.curseando.dto.BatchEnrollmentRequest;
+import com.curseando.dto.BatchEnrollmentResponse;
+import com.curseando.dto.BatchEnrollmentStatus;
 import com.curseando.dto.EnrollmentRequest;
 import com.curseando.dto.EnrollmentResponse;
+import com.curseando.dto.EnrollmentTicketResponse;
+import com.curseando.dto.WaitlistPositionResponse;
 import com.curseando.exception.CourseFullException;
 import com.curseando.exception.CourseNotFoundException;
 import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.exception.WaitlistEntryNotFoundException;
+import com.curseando.exception.EnrollmentQueueFullException;
+import com.curseando.exception.EnrollmentTicketNotFoundException;
+import com.curseando.model.EnrollmentTicketStatus;
+import com.curseando.service.BatchEnrollmentService;
+import com.curseando.service.EnrollmentAdmissionQueue;
 import com.curseando.service.EnrollmentService;
+import com.curseando.service.EnrollmentTicketService;
+import com.curseando.service.WaitlistService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,11 +29,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,9 +56,47 @@ class EnrollmentControllerTest {
         @MockBean
         private EnrollmentService enrollmentService;
 
+        @MockBean
+        private BatchEnrollmentService batchEnrollmentService;
+
+        @MockBean
+        private WaitlistService waitlistService;
+
+        @MockBean
+        private EnrollmentAdmissionQueue admissionQueue;
+
+        @MockBean
+        private EnrollmentTicketService ticketService;
+
         @Autowired
         private ObjectMapper objectMapper;
 
+        @BeforeEach
+        void enrollAdmittedRequestsInline() {
+                when(admissionQueue.followUps()).thenReturn(Runnable::run);
+                when(admissionQueue.submit(any(EnrollmentRequest.class))).thenAnswer(invocation -> {
+                        try {
+                                return CompletableFuture.completedFuture(
+                                                enrollmentService.enroll(invocation.getArgument(0)));
+                        } catch (RuntimeException ex) {
+                                return CompletableFuture.failedFuture(ex);
+                        }
+                });
+        }
+
+        /**
+         * Single enrollments complete asynchronously once their course queue
+         * admits them; this posts one and waits for the dispatched response.
+         */
+        private ResultActions postEnrollment(EnrollmentRequest request) throws Exception {
+                MvcResult started = mockMvc.perform(post("/api/enrollments")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                return mockMvc.perform(asyncDispatch(started));
+        }
+
         @Test
         @DisplayName("POST /api/enrollments should create enrollment (201)")
         void enroll_ShouldCreateEnrollment() throws Exception {
@@ -46,9 +108,7 @@ class EnrollmentControllerTest {
                 when(enrollmentService.enroll(any(EnrollmentRequest.class))).thenReturn(response);
 
                 // When/Then
-                mockMvc.perform(post("/api/enrollments")
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(request)))
+                postEnrollment(request)
                                 .andExpect(status().isCreated())
                                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(jsonPath("$.id").value(1L))
@@ -80,9 +140,7 @@ class EnrollmentControllerTest {
                                 .thenThrow(new CourseNotFoundException(999L));
 
                 // When/Then
-                mockMvc.perform(post("/api/enrollments")
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(request)))
+                postEnrollment(request)
                                 .andExpect(status().isNotFound())
                                 .andExpect(jsonPath("$.error").value("CourseNotFoundException"));
         }
@@ -97,28 +155,138 @@ class EnrollmentControllerTest {
                                 .thenThrow(new DuplicateEnrollmentException("john.doe@example.com"));
 
                 // When/Then
-                mockMvc.perform(post("/api/enrollments")
-                                .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(request)))
+                postEnrollment(request)
                                 .andExpect(status().isConflict())
                                 .andExpect(jsonPath("$.error").value("DuplicateEnrollmentException"));
         }
 
         @Test
-        @DisplayName("POST /api/enrollments should return 409 when course is full")
-        void enroll_ShouldReturn409WhenCourseIsFull() throws Exception {
+        @DisplayName("POST /api/enrollments should waitlist the student when course is full (202)")
+        void enroll_ShouldWaitlistWhenCourseIsFull() throws Exception {
                 // Given
                 EnrollmentRequest request = new EnrollmentRequest(1L, "John Doe", "john.doe@example.com");
 
                 when(enrollmentService.enroll(any(EnrollmentRequest.class)))
                                 .thenThrow(new CourseFullException(1L));
+                when(waitlistService.join(any(EnrollmentRequest.class)))
+                                .thenReturn(new WaitlistPositionResponse(1L, "john.doe@example.com", 3L));
+
+                // When/Then
+                postEnrollment(request)
+                                .andExpect(status().isAccepted())
+                                .andExpect(jsonPath("$.status").value("WAITLISTED"))
+                                .andExpect(jsonPath("$.position").value(3))
+                                .andExpect(jsonPath("$.studentEmail").value("john.doe@example.com"));
+        }
+
+        @Test
+        @DisplayName("POST /api/enrollments should return 429 with Retry-After when the course queue is full")
+        void enroll_ShouldReturn429WhenCourseQueueIsFull() throws Exception {
+                // Given
+                EnrollmentRequest request = new EnrollmentRequest(1L, "John Doe", "john.doe@example.com");
+
+                when(admissionQueue.submit(any(EnrollmentRequest.class)))
+                                .thenThrow(new EnrollmentQueueFullException(1L, Duration.ofSeconds(1)));
 
                 // When/Then
                 mockMvc.perform(post("/api/enrollments")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(request)))
-                                .andExpect(status().isConflict())
-                                .andExpect(jsonPath("$.error").value("CourseFullException"));
+                                .andExpect(status().isTooManyRequests())
+                                .andExpect(header().string("Retry-After", "1"))
+                                .andExpect(jsonPath("$.error").value("EnrollmentQueueFullException"));
+        }
+
+        @Test
+        @DisplayName("GET /api/enrollments/waitlist should return the waitlist position")
+        void getWaitlistPosition_ShouldReturnPosition() throws Exception {
+                // Given
+                when(waitlistService.getPosition(1L, "john.doe@example.com"))
+                                .thenReturn(new WaitlistPositionResponse(1L, "john.doe@example.com", 2L));
+
+                // When/Then
+                mockMvc.perform(get("/api/enrollments/waitlist")
+                                .param("courseId", "1")
+                                .param("email", "john.doe@example.com"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.position").value(2));
+        }
+
+        @Test
+        @DisplayName("GET /api/enrollments/waitlist should return 404 when the student is not waiting")
+        void getWaitlistPosition_ShouldReturn404WhenNotWaiting() throws Exception {
+                // Given
+                when(waitlistService.getPosition(1L, "john.doe@example.com"))
+                                .thenThrow(new WaitlistEntryNotFoundException(1L, "john.doe@example.com"));
+
+                // When/Then
+                mockMvc.perform(get("/api/enrollments/waitlist")
+                                .param("courseId", "1")
+                                .param("email", "john.doe@example.com"))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.error").value("WaitlistEntryNotFoundException"));
+        }
+
+        @Test
+        @DisplayName("POST /api/enrollments/async should accept the request and point to its ticket (202)")
+        void enrollAsync_ShouldReturnTicket() throws Exception {
+                // Given
+                EnrollmentRequest request = new EnrollmentRequest(1L, "John Doe", "john.doe@example.com");
+                UUID ticketId = UUID.randomUUID();
+                when(ticketService.submit(any(EnrollmentRequest.class)))
+                                .thenReturn(ticket(ticketId, EnrollmentTicketStatus.PENDING));
+
+                // When/Then
+                mockMvc.perform(post("/api/enrollments/async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().string("Location",
+                                                "http://localhost/api/enrollments/tickets/" + ticketId))
+                                .andExpect(jsonPath("$.id").value(ticketId.toString()))
+                                .andExpect(jsonPath("$.status").value("PENDING"));
+        }
+
+        @Test
+        @DisplayName("POST /api/enrollments/async should return 400 for invalid request")
+        void enrollAsync_ShouldReturn400ForInvalidRequest() throws Exception {
+                // Given
+                EnrollmentRequest request = new EnrollmentRequest(1L, "", "invalid-email");
+
+                // When/Then
+                mockMvc.perform(post("/api/enrollments/async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("GET /api/enrollments/tickets/{id} should return the ticket")
+        void getTicket_ShouldReturnTicket() throws Exception {
+                // Given
+                UUID ticketId = UUID.randomUUID();
+                EnrollmentTicketResponse ticket = ticket(ticketId, EnrollmentTicketStatus.WAITLISTED);
+                ticket.setWaitlistPosition(3L);
+                when(ticketService.getTicket(ticketId)).thenReturn(ticket);
+
+                // When/Then
+                mockMvc.perform(get("/api/enrollments/tickets/{id}", ticketId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value("WAITLISTED"))
+                                .andExpect(jsonPath("$.waitlistPosition").value(3));
+        }
+
+        @Test
+        @DisplayName("GET /api/enrollments/tickets/{id} should return 404 for an unknown ticket")
+        void getTicket_ShouldReturn404WhenUnknown() throws Exception {
+                // Given
+                UUID ticketId = UUID.randomUUID();
+                when(ticketService.getTicket(ticketId)).thenThrow(new EnrollmentTicketNotFoundException(ticketId));
+
+                // When/Then
+                mockMvc.perform(get("/api/enrollments/tickets/{id}", ticketId))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.error").value("EnrollmentTicketNotFoundException"));
         }
 
         @Test
@@ -133,4 +301,59 @@ class EnrollmentControllerTest {
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("POST /api/enrollments/batch should return one result per enrollment")
+        void enrollBatch_ShouldReturnPerItemResults() throws Exception {
+                // Given
+                BatchEnrollmentRequest request = new BatchEnrollmentRequest(List.of(
+                                new EnrollmentRequest(1L, "John Doe", "john.doe@example.com"),
+                                new EnrollmentRequest(2L, "Jane Smith", "jane.smith@example.com")));
+                BatchEnrollmentResponse response = new BatchEnrollmentResponse(List.of(
+                                new BatchEnrollmentItemResult(0, 1L, "john.doe@example.com",
+                                                BatchEnrollmentStatus.ENROLLED, 10L, null),
+                                new BatchEnrollmentItemResult(1, 2L, "jane.smith@example.com",
+                                                BatchEnrollmentStatus.COURSE_FULL, null, "Course with ID 2 is full")));
+
+                when(batchEnrollmentService.enrollAll(anyList())).thenReturn(response);
+
+                // When/Then
+                mockMvc.perform(post("/api/enrollments/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.enrolled").value(1))
+                                .andExpect(jsonPath("$.rejected").value(1))
+                                .andExpect(jsonPath("$.results[0].status").value("ENROLLED"))
+                                .andExpect(jsonPath("$.results[0].enrollmentId").value(10L))
+                                .andExpect(jsonPath("$.results[1].status").value("COURSE_FULL"));
+        }
+
+        @Test
+        @DisplayName("POST /api/enrollments/batch should return 400 for an invalid item or an empty batch")
+        void enrollBatch_ShouldReturn400ForInvalidBatch() throws Exception {
+                // Given
+                BatchEnrollmentRequest invalidItem = new BatchEnrollmentRequest(List.of(
+                                new EnrollmentRequest(1L, "John Doe", "invalid-email")));
+                BatchEnrollmentRequest empty = new BatchEnrollmentRequest(List.of());
+
+                // When/Then
+                mockMvc.perform(post("/api/enrollments/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(invalidItem)))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(post("/api/enrollments/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(empty)))
+                                .andExpect(status().isBadRequest());
+        }
+
+        private static EnrollmentTicketResponse ticket(UUID id, EnrollmentTicketStatus status) {
+                EnrollmentTicketResponse ticket = new EnrollmentTicketResponse();
+                ticket.setId(id);
+                ticket.setStatus(status);
+                ticket.setCourseId(1L);
+                ticket.setStudentEmail("john.doe@example.com");
+                return ticket;
+        }
 }
@@ -0,0 +1,51 @@
+package com.curseando.event;
+
+import com.curseando.config.EnrollmentProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileEnrollmentEventSink Tests")
+class FileEnrollmentEventSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("publish() should append one JSON line per event across batches")
+    void publish_ShouldAppendJsonLines(@TempDir Path directory) throws IOException {
+        // Given
+        Path file = directory.resolve("events.jsonl");
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.getOutbox().setFile(file);
+        FileEnrollmentEventSink sink = new FileEnrollmentEventSink(objectMapper, properties);
+        LocalDateTime enrolledAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+        // When
+        sink.publish(List.of(event(1L, enrolledAt), event(2L, enrolledAt)));
+        sink.publish(List.of(event(3L, enrolledAt)));
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines.get(2), EnrollmentCreatedEvent.class))
+                .isEqualTo(event(3L, enrolledAt));
+        assertThat(lines.get(0)).contains("\"eventId\":1", "\"enrolledAt\":\"2024-01-15T10:30:00\"");
+    }
+
+    private static EnrollmentCreatedEvent event(Long id, LocalDateTime enrolledAt) {
+        return new EnrollmentCreatedEvent(id, 100 + id, 1L, id, "student" + id + "@example.com", enrolledAt);
+    }
+}
@@ -2,12 +2,16 @@ package com.curseando.exception;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 
+import java.time.Duration;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -55,6 +59,39 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).contains("999");
     }
 
+    @Test
+    @DisplayName("handleWaitlistEntryNotFound() should return 404")
+    void handleWaitlistEntryNotFound_ShouldReturn404() {
+        // Given
+        WaitlistEntryNotFoundException ex = new WaitlistEntryNotFoundException(1L, "test@example.com");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleWaitlistEntryNotFound(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("WaitlistEntryNotFoundException");
+        assertThat(response.getBody().getMessage()).contains("test@example.com");
+    }
+
+    @Test
+    @DisplayName("handleEnrollmentTicketNotFound() should return 404")
+    void handleEnrollmentTicketNotFound_ShouldReturn404() {
+        // Given
+        UUID id = UUID.randomUUID();
+        EnrollmentTicketNotFoundException ex = new EnrollmentTicketNotFoundException(id);
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleEnrollmentTicketNotFound(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("EnrollmentTicketNotFoundException");
+        assertThat(response.getBody().getMessage()).contains(id.toString());
+    }
+
     @Test
     @DisplayName("handleCourseFull() should return 409")
     void handleCourseFull_ShouldReturn409() {
@@ -87,6 +124,38 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).contains("test@example.com");
     }
 
+    @Test
+    @DisplayName("handleEnrollmentContention() should return 503 with Retry-After")
+    void handleEnrollmentContention_ShouldReturn503WithRetryAfter() {
+        // Given
+        EnrollmentContentionException ex = new EnrollmentContentionException(new RuntimeException("deadlock"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleEnrollmentContention(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("EnrollmentContentionException");
+    }
+
+    @Test
+    @DisplayName("handleEnrollmentQueueFull() should return 429 with Retry-After in whole seconds")
+    void handleEnrollmentQueueFull_ShouldReturn429WithRetryAfter() {
+        // Given
+        EnrollmentQueueFullException ex = new EnrollmentQueueFullException(1L, Duration.ofMillis(1500));
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleEnrollmentQueueFull(ex);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("EnrollmentQueueFullException");
+    }
+
     @Test
     @DisplayName("handleGenericException() should return 500")
     void handleGenericException_ShouldReturn500() {
@@ -0,0 +1,114 @@
+package com.curseando.integration;
+
+import com.curseando.dto.BatchEnrollmentResponse;
+import com.curseando.dto.BatchEnrollmentStatus;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.fixtures.StudentTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.model.Enrollment;
+import com.curseando.model.Student;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.BatchEnrollmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Batch Enrollment Integration Tests")
+class BatchEnrollmentIntegrationTest {
+
+    @Autowired
+    private BatchEnrollmentService batchEnrollmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    private Course smallCourse;
+    private Course largeCourse;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentRepository.deleteAll();
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+
+        smallCourse = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Small Course")
+                .withMaxCapacity(2)
+                .withEnrolledCount(1)
+                .build());
+        largeCourse = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Large Course")
+                .withMaxCapacity(10)
+                .withEnrolledCount(0)
+                .build());
+
+        Student existing = studentRepository.save(StudentTestFixtures.builder()
+                .withId(null)
+                .withFullName("Existing Student")
+                .withEmail("existing@example.com")
+                .build());
+        enrollmentRepository.save(new Enrollment(smallCourse, existing));
+    }
+
+    @Test
+    @DisplayName("enrollAll() should report a result per item and bump each course once")
+    void enrollAll_ShouldReportPerItemResults() {
+        // Given
+        List<EnrollmentRequest> requests = List.of(
+                new EnrollmentRequest(smallCourse.getId(), "Existing Student", "existing@example.com"),
+                new EnrollmentRequest(smallCourse.getId(), "First Student", "first@example.com"),
+                new EnrollmentRequest(smallCourse.getId(), "Second Student", "second@example.com"),
+                new EnrollmentRequest(largeCourse.getId(), "First Student", "first@example.com"),
+                new EnrollmentRequest(largeCourse.getId(), "First Student", "first@example.com"),
+                new EnrollmentRequest(largeCourse.getId(), "Existing Student", "existing@example.com"),
+                new EnrollmentRequest(999_999L, "Lost Student", "lost@example.com"));
+
+        // When
+        BatchEnrollmentResponse response = batchEnrollmentService.enrollAll(requests);
+
+        // Then
+        assertThat(response.getResults()).extracting("status").containsExactly(
+                BatchEnrollmentStatus.DUPLICATE,
+                BatchEnrollmentStatus.ENROLLED,
+                BatchEnrollmentStatus.COURSE_FULL,
+                BatchEnrollmentStatus.ENROLLED,
+                BatchEnrollmentStatus.DUPLICATE,
+                BatchEnrollmentStatus.ENROLLED,
+                BatchEnrollmentStatus.COURSE_NOT_FOUND);
+        assertThat(response.getEnrolled()).isEqualTo(3);
+        assertThat(response.getRejected()).isEqualTo(4);
+        assertThat(response.getResults().get(1).getEnrollmentId()).isNotNull();
+
+        assertThat(courseRepository.findAvailableSpotsById(smallCourse.getId())).isZero();
+        assertThat(courseRepository.findAvailableSpotsById(largeCourse.getId())).isEqualTo(8);
+        assertThat(enrollmentRepository.countByCourseId(smallCourse.getId())).isEqualTo(2);
+        assertThat(enrollmentRepository.countByCourseId(largeCourse.getId())).isEqualTo(2);
+
+        // One new student row, shared by both courses
+        assertThat(studentRepository.findByEmailIn(List.of("first@example.com", "second@example.com")))
+                .extracting(Student::getEmail)
+                .containsExactly("first@example.com");
+    }
+}
@@ -0,0 +1,153 @@
+package com.curseando.integration;
+
+import com.curseando.dto.BatchEnrollmentResponse;
+import com.curseando.dto.BatchEnrollmentStatus;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentOutboxRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.BatchEnrollmentService;
+import com.curseando.service.EnrollmentService;
+import com.curseando.service.SeatReservationEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * A single enrollment that commits between the batch's lookups and its inserts.
+ * The lookups are stubbed to miss the competing rows, which is what the batch
+ * sees when it loses that race. Not transactional: the batch and the competing
+ * enrollment commit their own transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Batch Enrollment Race Tests")
+class BatchEnrollmentRaceTest {
+
+    private static final String EMAIL_PREFIX = "batch.race.";
+
+    @Autowired
+    private BatchEnrollmentService batchEnrollmentService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @SpyBean
+    private StudentRepository studentRepository;
+
+    @SpyBean
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private EnrollmentOutboxRepository outboxRepository;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Raced Course")
+                .withMaxCapacity(10)
+                .withEnrolledCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+        courseRepository.deleteById(course.getId());
+        seatReservationEngine.evict(course.getId());
+    }
+
+    @Test
+    @DisplayName("enrollAll() should report a DUPLICATE when a single enrollment of the same student wins the race")
+    void enrollAll_ShouldReportDuplicate_WhenSingleEnrollmentCommitsFirst() {
+        // Given
+        enrollmentService.enroll(request("raced"));
+        doReturn(List.of()).doAnswer(realMethod(enrollmentRepository))
+                .when(enrollmentRepository).findEnrolledEmails(any(), anyCollection());
+
+        // When
+        BatchEnrollmentResponse response = batchEnrollmentService.enrollAll(List.of(request("raced"), request("calm")));
+
+        // Then
+        assertThat(response.getResults())
+                .extracting(result -> result.getStatus())
+                .containsExactly(BatchEnrollmentStatus.DUPLICATE, BatchEnrollmentStatus.ENROLLED);
+        assertThat(response.getResults().get(1).getIndex()).isEqualTo(1);
+        assertThat(enrollmentRepository.countByCourseId(course.getId())).isEqualTo(2);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("enrollAll() should enroll a student whose first enrollment elsewhere created it concurrently")
+    void enrollAll_ShouldEnroll_WhenStudentIsCreatedConcurrently() {
+        // Given
+        Course other = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Other Course")
+                .withMaxCapacity(10)
+                .withEnrolledCount(0)
+                .build());
+        enrollmentService.enroll(
+                new EnrollmentRequest(other.getId(), "Raced Student", EMAIL_PREFIX + "raced@example.com"));
+        doReturn(List.of()).doAnswer(realMethod(studentRepository))
+                .when(studentRepository).findByEmailIn(anyCollection());
+
+        try {
+            // When
+            BatchEnrollmentResponse response = batchEnrollmentService.enrollAll(List.of(request("raced")));
+
+            // Then
+            assertThat(response.getResults().get(0).getStatus()).isEqualTo(BatchEnrollmentStatus.ENROLLED);
+            assertThat(studentRepository.findByEmail(EMAIL_PREFIX + "raced@example.com")).isPresent();
+        } finally {
+            outboxRepository.deleteAll();
+            enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                    .filter(enrollment -> enrollment.getCourse().getId().equals(other.getId()))
+                    .toList());
+            courseRepository.deleteById(other.getId());
+            seatReservationEngine.evict(other.getId());
+        }
+    }
+
+    /** Repository spies are interface proxies, so their default answer is what reaches the real bean. */
+    private static Answer<?> realMethod(Object spy) {
+        return mockingDetails(spy).getMockCreationSettings().getDefaultAnswer();
+    }
+
+    private EnrollmentRequest request(String name) {
+        return new EnrollmentRequest(course.getId(), "Student " + name, EMAIL_PREFIX + name + "@example.com");
+    }
+}
@@ -0,0 +1,146 @@
+package com.curseando.integration;
+
+import com.curseando.config.CacheConfig;
+import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.model.DifficultyLevel;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.CatalogCacheInvalidator;
+import com.curseando.service.CourseService;
+import com.curseando.service.EnrollmentService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: cache invalidation only happens after a real commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Catalog Cache Integration Tests")
+class CatalogCacheIntegrationTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CatalogCacheInvalidator invalidator;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Cached Course")
+                .withDifficulty(DifficultyLevel.ADVANCED)
+                .withMaxCapacity(5)
+                .withEnrolledCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.findByEmail("cached@example.com").ifPresent(studentRepository::delete);
+        courseRepository.deleteById(course.getId());
+    }
+
+    @Test
+    @DisplayName("Repeated catalog reads should be served from the cache")
+    void repeatedReads_ShouldHitCache() {
+        // Given - stats accumulate across the tests sharing these caches
+        CacheStats catalogBefore = stats(CacheConfig.CATALOG_CACHE);
+        CacheStats courseBefore = stats(CacheConfig.COURSES_CACHE);
+
+        // When
+        courseService.findAll();
+        courseService.findAll();
+        courseService.findByDifficulty(DifficultyLevel.ADVANCED);
+        courseService.findByDifficulty(DifficultyLevel.ADVANCED);
+        courseService.findById(course.getId());
+        courseService.findById(course.getId());
+
+        // Then
+        CacheStats catalogStats = stats(CacheConfig.CATALOG_CACHE).minus(catalogBefore);
+        assertThat(catalogStats.missCount()).isEqualTo(2);
+        assertThat(catalogStats.hitCount()).isEqualTo(2);
+        CacheStats courseStats = stats(CacheConfig.COURSES_CACHE).minus(courseBefore);
+        assertThat(courseStats.missCount()).isEqualTo(1);
+        assertThat(courseStats.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A committed enrollment should refresh cached counts")
+    void committedEnrollment_ShouldInvalidateCachedCourse() {
+        // Given
+        assertThat(courseService.findById(course.getId()).orElseThrow().getAvailableSpots()).isEqualTo(5);
+        assertThat(findInCatalog().getEnrolledCount()).isEqualTo(0);
+
+        // When
+        enrollmentService.enroll(new EnrollmentRequest(course.getId(), "Cached Student", "cached@example.com"));
+
+        // Then
+        assertThat(courseService.findById(course.getId()).orElseThrow().getAvailableSpots()).isEqualTo(4);
+        assertThat(findInCatalog().getEnrolledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A course loaded before a commit and cached after its eviction should not be served")
+    void latePut_ShouldNotOutliveEviction() {
+        // Given - a reader loads the course and is slow to cache it
+        String readerKey = invalidator.courseKey(course.getId());
+        CourseDTO stale = courseService.findById(course.getId()).orElseThrow();
+        cacheManager.getCache(CacheConfig.COURSES_CACHE).clear();
+
+        // When - an enrollment commits and evicts, then the reader's put lands
+        enrollmentService.enroll(new EnrollmentRequest(course.getId(), "Cached Student", "cached@example.com"));
+        cacheManager.getCache(CacheConfig.COURSES_CACHE).put(readerKey, stale);
+
+        // Then
+        assertThat(courseService.findById(course.getId()).orElseThrow().getAvailableSpots()).isEqualTo(4);
+    }
+
+    private CourseSummaryDTO findInCatalog() {
+        return courseService.findAll().stream()
+                .filter(dto -> dto.getId().equals(course.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private CacheStats stats(String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache().stats();
+    }
+}
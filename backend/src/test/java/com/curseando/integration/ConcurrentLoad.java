@@ -0,0 +1,72 @@
+package com.curseando.integration;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Releases a batch of tasks at once on a fixed pool and records how long each
+ * one took.
+ */
+final class ConcurrentLoad {
+
+    private ConcurrentLoad() {
+    }
+
+    static Latencies run(int threads, int attempts, IndexedTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+        long[] nanos = new long[attempts];
+        for (int i = 0; i < attempts; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        task.run(index);
+                    } finally {
+                        nanos[index] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return new Latencies(nanos);
+    }
+
+    @FunctionalInterface
+    interface IndexedTask {
+        void run(int index);
+    }
+
+    static final class Latencies {
+
+        private final long[] sortedNanos;
+
+        private Latencies(long[] nanos) {
+            this.sortedNanos = nanos.clone();
+            Arrays.sort(sortedNanos);
+        }
+
+        double percentileMillis(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(rank, 0)] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sortedNanos[sortedNanos.length - 1] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.curseando.integration;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+/**
+ * Runs on the embedded H2 of the "test" profile, or on a local Postgres when
+ * CONTENTION_DB_URL is set (see application-contention-postgres.properties).
+ */
+public class ContentionDatabaseProfiles implements ActiveProfilesResolver {
+
+    static final String POSTGRES_URL_VARIABLE = "CONTENTION_DB_URL";
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        return System.getenv(POSTGRES_URL_VARIABLE) != null
+                ? new String[] { "test", "contention-postgres" }
+                : new String[] { "test" };
+    }
+}
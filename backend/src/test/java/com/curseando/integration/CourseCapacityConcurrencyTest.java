@@ -0,0 +1,124 @@
+package com.curseando.integration;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.exception.CourseFullException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers a single course from many threads. Not transactional on purpose:
+ * every worker must commit its own transaction for the race to be real.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Course Capacity Concurrency Tests")
+class CourseCapacityConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    private final List<Long> createdCourseIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> createdCourseIds.contains(enrollment.getCourse().getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith("hammer"))
+                .toList());
+        courseRepository.deleteAllById(createdCourseIds);
+        createdCourseIds.clear();
+    }
+
+    @Test
+    @DisplayName("incrementEnrolledCountIfAvailable() should never exceed capacity under contention")
+    void conditionalIncrement_ShouldNeverExceedCapacity() throws InterruptedException {
+        // Given
+        int capacity = 20;
+        int attempts = 200;
+        Long courseId = createCourse(capacity);
+        AtomicInteger taken = new AtomicInteger();
+
+        // When - bypass the in-memory seat counter and race on the row directly
+        ConcurrentLoad.run(THREADS, attempts, i -> {
+            if (courseRepository.incrementEnrolledCountIfAvailable(courseId) == 1) {
+                taken.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(taken.get()).isEqualTo(capacity);
+        assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("enroll() should admit exactly capacity students under contention")
+    void enroll_ShouldAdmitExactlyCapacityStudents() throws InterruptedException {
+        // Given
+        int capacity = 10;
+        int attempts = 60;
+        Long courseId = createCourse(capacity);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        // When
+        ConcurrentLoad.run(THREADS, attempts, i -> {
+            try {
+                enrollmentService.enroll(new EnrollmentRequest(courseId, "Hammer " + i, "hammer" + i + "@example.com"));
+                succeeded.incrementAndGet();
+            } catch (CourseFullException e) {
+                full.incrementAndGet();
+            } catch (RuntimeException e) {
+                unexpected.incrementAndGet();
+            }
+        });
+
+        // Then
+        assertThat(unexpected.get()).isZero();
+        assertThat(succeeded.get()).isEqualTo(capacity);
+        assertThat(full.get()).isEqualTo(attempts - capacity);
+        assertThat(courseRepository.findById(courseId).orElseThrow().getEnrolledCount()).isEqualTo(capacity);
+        assertThat(enrollmentRepository.countByCourseId(courseId)).isEqualTo(capacity);
+    }
+
+    private Long createCourse(int capacity) {
+        Course course = CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Hot Course")
+                .withMaxCapacity(capacity)
+                .withEnrolledCount(0)
+                .build();
+        Long id = courseRepository.save(course).getId();
+        createdCourseIds.add(id);
+        return id;
+    }
+}
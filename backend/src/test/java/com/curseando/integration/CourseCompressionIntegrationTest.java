@@ -0,0 +1,81 @@
+package com.curseando.integration;
+
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compression is applied by the embedded Tomcat, which MockMvc does not run,
+ * so these requests go over a real connection. The JDK client leaves the body
+ * compressed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Course Compression Integration Tests")
+class CourseCompressionIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        // Well above server.compression.min-response-size
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Compressed Course")
+                .withDescription("A long description. ".repeat(200))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteById(course.getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/courses/{id} should be gzip-compressed and keep its ETag")
+    void getCourseById_ShouldCompress_WhenClientAcceptsGzip() throws Exception {
+        // Given
+        URI uri = URI.create("http://localhost:" + port + "/api/courses/" + course.getId());
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Accept-Encoding", "gzip")
+                .build();
+
+        // When
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("ETag"))
+                .hasValueSatisfying(etag -> assertThat(etag).startsWith("W/"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).contains("Compressed Course");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.curseando.integration;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.event.EnrollmentCreatedEvent;
+import com.curseando.exception.CourseFullException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentOutboxRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.BatchEnrollmentService;
+import com.curseando.service.EnrollmentOutboxRelay;
+import com.curseando.service.EnrollmentService;
+import com.curseando.service.SeatReservationEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Enrollments write their outbox events in their own transaction, and the
+ * relay publishes and removes them. Not transactional: the relay commits its
+ * own transactions. Skipping rows locked by another relay needs Postgres and
+ * is covered by {@link EnrollmentOutboxSkipLockedTest}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DisplayName("Enrollment Outbox Integration Tests")
+class EnrollmentOutboxIntegrationTest {
+
+    private static final String EMAIL_PREFIX = "outbox.";
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private BatchEnrollmentService batchEnrollmentService;
+
+    @Autowired
+    private EnrollmentOutboxRelay relay;
+
+    @Autowired
+    private EnrollmentOutboxRepository outboxRepository;
+
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        // Events left behind by other tests sharing the database
+        outboxRepository.deleteAll();
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Outbox Course")
+                .withMaxCapacity(3)
+                .withEnrolledCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+        courseRepository.deleteById(course.getId());
+        seatReservationEngine.evict(course.getId());
+    }
+
+    @Test
+    @DisplayName("relay() should publish one event per committed enrollment and empty the outbox")
+    void relay_ShouldPublishEnrollmentsOnce() {
+        // Given
+        EnrollmentResponse single = enrollmentService.enroll(request("single"));
+        batchEnrollmentService.enrollAll(List.of(request("batch-1"), request("batch-2")));
+        // Rejected enrollments leave nothing behind
+        assertThatThrownBy(() -> enrollmentService.enroll(request("late")))
+                .isInstanceOf(CourseFullException.class);
+        assertThat(outboxRepository.count()).isEqualTo(3);
+
+        // When
+        int published = relay.relay();
+
+        // Then
+        List<EnrollmentCreatedEvent> events = applicationEvents.stream(EnrollmentCreatedEvent.class).toList();
+        assertThat(published).isEqualTo(3);
+        assertThat(events).extracting(EnrollmentCreatedEvent::studentEmail)
+                .containsExactly(EMAIL_PREFIX + "single@example.com", EMAIL_PREFIX + "batch-1@example.com",
+                        EMAIL_PREFIX + "batch-2@example.com");
+        assertThat(events.get(0).enrollmentId()).isEqualTo(single.getId());
+        assertThat(events).allSatisfy(event -> assertThat(event.courseId()).isEqualTo(course.getId()));
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(relay.relay()).isZero();
+    }
+
+    private EnrollmentRequest request(String name) {
+        return new EnrollmentRequest(course.getId(), name, EMAIL_PREFIX + name + "@example.com");
+    }
+}
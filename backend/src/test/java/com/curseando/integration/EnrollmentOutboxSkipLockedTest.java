@@ -0,0 +1,140 @@
+package com.curseando.integration;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.model.EnrollmentOutboxEvent;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentOutboxRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.EnrollmentService;
+import com.curseando.service.SeatReservationEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two relays reading the outbox at once take different rows instead of the
+ * second one waiting for the first. H2 has no SKIP LOCKED, so this runs on
+ * Postgres only.
+ *
+ * Skipped unless CONTENTION_DB_URL points at a local Postgres.
+ */
+@SpringBootTest
+@ActiveProfiles({ "test", "contention-postgres" })
+@EnabledIfEnvironmentVariable(named = ContentionDatabaseProfiles.POSTGRES_URL_VARIABLE, matches = ".+")
+@DisplayName("Enrollment Outbox SKIP LOCKED Tests")
+class EnrollmentOutboxSkipLockedTest {
+
+    private static final String EMAIL_PREFIX = "outbox.locked.";
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentOutboxRepository outboxRepository;
+
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Locked Outbox Course")
+                .withMaxCapacity(10)
+                .withEnrolledCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll(outboxRepository.findAll().stream()
+                .filter(event -> event.getCourseId().equals(course.getId()))
+                .toList());
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+        courseRepository.deleteById(course.getId());
+        seatReservationEngine.evict(course.getId());
+    }
+
+    @Test
+    @DisplayName("lockOldest() should pass over events another relay has locked")
+    void lockOldest_ShouldSkipLockedEvents() throws Exception {
+        // Given
+        enrollmentService.enroll(request("first"));
+        enrollmentService.enroll(request("second"));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> otherRelay = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(
+                status -> {
+                    List<Long> ids = lockOldest(1);
+                    locked.countDown();
+                    await(release);
+                    return ids;
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        List<Long> mine = transactionTemplate.execute(status -> lockOldest(1000));
+        release.countDown();
+
+        // Then
+        List<Long> theirs = otherRelay.get(5, TimeUnit.SECONDS);
+        assertThat(theirs).hasSize(1);
+        assertThat(mine).isNotEmpty().doesNotContainAnyElementsOf(theirs);
+    }
+
+    private List<Long> lockOldest(int limit) {
+        return outboxRepository.lockOldest(Limit.of(limit)).stream()
+                .map(EnrollmentOutboxEvent::getId)
+                .toList();
+    }
+
+    private EnrollmentRequest request(String name) {
+        return new EnrollmentRequest(course.getId(), name, EMAIL_PREFIX + name + "@example.com");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
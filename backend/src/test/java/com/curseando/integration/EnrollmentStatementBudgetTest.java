@@ -0,0 +1,107 @@
+package com.curseando.integration;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.EnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statement budgets for a single enrollment, measured after a warm-up so the
+ * seat counter is loaded. Id block fetches are left out of the counts.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Enrollment Statement Budget Tests")
+class EnrollmentStatementBudgetTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementBudget budget;
+    private Course course;
+    private Course otherCourse;
+
+    @BeforeEach
+    void setUp() {
+        budget = new StatementBudget(entityManagerFactory);
+        course = courseRepository.save(budgetCourse("Budget Course"));
+        otherCourse = courseRepository.save(budgetCourse("Second Budget Course"));
+        // Loads both seat counters and enrolls the students the tests below reuse
+        enrollmentService.enroll(new EnrollmentRequest(course.getId(), "Warm Up", "budget.warmup@example.com"));
+        enrollmentService.enroll(new EnrollmentRequest(otherCourse.getId(), "Warm Up Two", "budget.warmup2@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> courseIds = List.of(course.getId(), otherCourse.getId());
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> courseIds.contains(enrollment.getCourse().getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith("budget."))
+                .toList());
+        courseRepository.deleteAllById(courseIds);
+    }
+
+    @Test
+    @DisplayName("A first enrollment should take at most 5 statements")
+    void enroll_NewStudent_ShouldStayWithinBudget() {
+        // course, student upsert, enrollment insert, seat update, outbox insert
+        budget.assertWithin(5, "enroll (new student)", () -> enrollmentService.enroll(
+                new EnrollmentRequest(course.getId(), "New Student", "budget.new@example.com")));
+    }
+
+    @Test
+    @DisplayName("Enrolling a known student should take at most 4 statements")
+    void enroll_ExistingStudent_ShouldStayWithinBudget() {
+        // course, enrollment insert, seat update, outbox insert: the student id comes from the email cache
+        budget.assertWithin(4, "enroll (existing student)", () -> enrollmentService.enroll(
+                new EnrollmentRequest(otherCourse.getId(), "Warm Up", "budget.warmup@example.com")));
+    }
+
+    @Test
+    @DisplayName("A duplicate of a known student should be rejected with 1 statement")
+    void enroll_Duplicate_ShouldStayWithinBudget() {
+        // the course filter says "maybe", one exists query confirms it; no seat, no transaction
+        budget.assertWithin(1, "enroll (duplicate)", () -> assertThatThrownBy(() -> enrollmentService.enroll(
+                new EnrollmentRequest(course.getId(), "Warm Up", "budget.warmup@example.com")))
+                .isInstanceOf(DuplicateEnrollmentException.class));
+    }
+
+    private static Course budgetCourse(String title) {
+        return CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle(title)
+                .withMaxCapacity(10)
+                .withEnrolledCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.curseando.integration;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentTicketResponse;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.model.EnrollmentTicket;
+import com.curseando.model.EnrollmentTicketStatus;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.EnrollmentTicketRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.repository.WaitlistEntryRepository;
+import com.curseando.service.EnrollmentService;
+import com.curseando.service.EnrollmentTicketService;
+import com.curseando.service.SeatReservationEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asynchronous enrollments end to end: a submitted ticket is processed by the
+ * course lanes and polled until it has an outcome. Not transactional: lanes
+ * commit their own transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Enrollment Ticket Integration Tests")
+class EnrollmentTicketIntegrationTest {
+
+    private static final String EMAIL_PREFIX = "ticket.";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private EnrollmentTicketService ticketService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private EnrollmentTicketRepository ticketRepository;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Ticketed Course")
+                .withMaxCapacity(1)
+                .withEnrolledCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketRepository.deleteAll();
+        waitlistEntryRepository.deleteAll();
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+        courseRepository.deleteById(course.getId());
+        seatReservationEngine.evict(course.getId());
+    }
+
+    @Test
+    @DisplayName("A ticket should end up enrolled, then waitlisted once the course is full")
+    void submit_ShouldRecordEnrollmentAndWaitlistOutcomes() throws InterruptedException {
+        // Given
+        EnrollmentTicketResponse first = ticketService.submit(request("first"));
+        EnrollmentTicketResponse enrolled = awaitOutcome(first.getId());
+
+        // When
+        EnrollmentTicketResponse second = ticketService.submit(request("second"));
+        EnrollmentTicketResponse waitlisted = awaitOutcome(second.getId());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(EnrollmentTicketStatus.PENDING);
+        assertThat(enrolled.getStatus()).isEqualTo(EnrollmentTicketStatus.ENROLLED);
+        assertThat(enrolled.getEnrollment()).isNotNull();
+        assertThat(enrolled.getEnrollment().getCourseId()).isEqualTo(course.getId());
+        assertThat(enrollmentRepository.findById(enrolled.getEnrollment().getId()).orElseThrow().getTicketId())
+                .isEqualTo(first.getId());
+        assertThat(enrolled.getCompletedAt()).isNotNull();
+        assertThat(waitlisted.getStatus()).isEqualTo(EnrollmentTicketStatus.WAITLISTED);
+        assertThat(waitlisted.getWaitlistPosition()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("A duplicate should be rejected with its reason")
+    void submit_ShouldRejectDuplicate() throws InterruptedException {
+        // Given
+        awaitOutcome(ticketService.submit(request("repeat")).getId());
+
+        // When
+        EnrollmentTicketResponse duplicate = awaitOutcome(ticketService.submit(request("repeat")).getId());
+
+        // Then
+        assertThat(duplicate.getStatus()).isEqualTo(EnrollmentTicketStatus.REJECTED);
+        assertThat(duplicate.getError()).isEqualTo("DuplicateEnrollmentException");
+    }
+
+    @Test
+    @DisplayName("sweep() should pick up a pending ticket whose claim expired")
+    void sweep_ShouldDispatchTicketWithExpiredClaim() throws InterruptedException {
+        // Given - left behind by an instance that stopped before processing it
+        EnrollmentTicket abandoned = new EnrollmentTicket(course.getId(), "Abandoned",
+                EMAIL_PREFIX + "abandoned@example.com");
+        abandoned.setClaimedAt(LocalDateTime.now().minusHours(1));
+        UUID id = ticketRepository.save(abandoned).getId();
+
+        // When
+        int dispatched = ticketService.sweep();
+
+        // Then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(awaitOutcome(id).getStatus()).isEqualTo(EnrollmentTicketStatus.ENROLLED);
+        assertThat(ticketService.sweep()).isZero();
+    }
+
+    @Test
+    @DisplayName("sweep() should record a redelivered ticket as enrolled when its enrollment already committed")
+    void sweep_ShouldRecordEnrollmentOfRedeliveredTicket() throws InterruptedException {
+        // Given - the enrollment committed but its outcome was never written back
+        EnrollmentTicket ticket = new EnrollmentTicket(course.getId(), "Redelivered",
+                EMAIL_PREFIX + "redelivered@example.com");
+        ticket.setClaimedAt(LocalDateTime.now().minusHours(1));
+        UUID id = ticketRepository.save(ticket).getId();
+        EnrollmentRequest firstDelivery = request("redelivered");
+        firstDelivery.setTicketId(id);
+        Long enrollmentId = enrollmentService.enroll(firstDelivery).getId();
+
+        // When
+        int dispatched = ticketService.sweep();
+
+        // Then
+        EnrollmentTicketResponse outcome = awaitOutcome(id);
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(outcome.getStatus()).isEqualTo(EnrollmentTicketStatus.ENROLLED);
+        assertThat(outcome.getEnrollment().getId()).isEqualTo(enrollmentId);
+    }
+
+    private EnrollmentTicketResponse awaitOutcome(UUID id) throws InterruptedException {
+        long deadline = System.nanoTime() + POLL_TIMEOUT.toNanos();
+        EnrollmentTicketResponse ticket = ticketService.getTicket(id);
+        while (ticket.getStatus() == EnrollmentTicketStatus.PENDING && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            ticket = ticketService.getTicket(id);
+        }
+        return ticket;
+    }
+
+    private EnrollmentRequest request(String name) {
+        return new EnrollmentRequest(course.getId(), name, EMAIL_PREFIX + name + "@example.com");
+    }
+}
@@ -0,0 +1,208 @@
+package com.curseando.integration;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.exception.CourseFullException;
+import com.curseando.exception.EnrollmentContentionException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.EnrollmentAdmissionQueue;
+import com.curseando.service.EnrollmentService;
+import com.curseando.service.SeatReservationEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires N concurrent enrollments at one course of capacity C, checks that
+ * exactly C are admitted with no drift between enrolledCount and the
+ * enrollment rows, and logs latency percentiles and retry counts.
+ *
+ * Runs on embedded H2 by default; set CONTENTION_DB_URL to run it against a
+ * local Postgres instead. Not transactional: each enrollment commits its own
+ * transaction.
+ */
+@SpringBootTest
+@ActiveProfiles(resolver = ContentionDatabaseProfiles.class)
+@DisplayName("Hot Course Contention Tests")
+class HotCourseContentionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HotCourseContentionTest.class);
+
+    private static final int THREADS = 32;
+    private static final String EMAIL_PREFIX = "contention";
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentAdmissionQueue admissionQueue;
+
+    @Autowired
+    private EnrollmentProperties enrollmentProperties;
+
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Long> createdCourseIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        enrollmentProperties.getAdmission().setGroupCommitSize(1);
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> createdCourseIds.contains(enrollment.getCourse().getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+        courseRepository.deleteAllById(createdCourseIds);
+        createdCourseIds.forEach(seatReservationEngine::evict);
+        createdCourseIds.clear();
+    }
+
+    @ParameterizedTest(name = "{0} enrollments for {1} seats")
+    @CsvSource({
+            "500, 1",
+            "400, 25",
+            "300, 150",
+            "100, 100"
+    })
+    @DisplayName("enroll() should admit exactly capacity students with no count drift")
+    void enroll_ShouldAdmitExactlyCapacityWithoutDrift(int attempts, int capacity) throws InterruptedException {
+        // Given
+        Long courseId = createCourse(capacity);
+        double retriesBefore = counter("enrollment.retry.attempts");
+        double exhaustedBefore = counter("enrollment.retry.exhausted");
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger contention = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        // When
+        ConcurrentLoad.Latencies latencies = ConcurrentLoad.run(THREADS, attempts, i -> {
+            try {
+                enrollmentService.enroll(new EnrollmentRequest(courseId, "Contender " + i,
+                        EMAIL_PREFIX + "-" + courseId + "-" + i + "@example.com"));
+                admitted.incrementAndGet();
+            } catch (CourseFullException e) {
+                full.incrementAndGet();
+            } catch (EnrollmentContentionException e) {
+                contention.incrementAndGet();
+            } catch (RuntimeException e) {
+                log.error("Unexpected enrollment failure", e);
+                unexpected.incrementAndGet();
+            }
+        });
+        double retries = counter("enrollment.retry.attempts") - retriesBefore;
+        double exhausted = counter("enrollment.retry.exhausted") - exhaustedBefore;
+        log.info("Contention N={} C={}: admitted={} full={} aborted={} retries={} exhausted={} "
+                        + "p50={}ms p95={}ms p99={}ms max={}ms",
+                attempts, capacity, admitted.get(), full.get(), contention.get(), (long) retries, (long) exhausted,
+                latencies.percentileMillis(50), latencies.percentileMillis(95), latencies.percentileMillis(99),
+                latencies.maxMillis());
+
+        // Then
+        assertThat(unexpected.get()).isZero();
+        assertThat(contention.get()).isZero();
+        assertThat(exhausted).isZero();
+        assertThat(admitted.get()).isEqualTo(capacity);
+        assertThat(full.get()).isEqualTo(attempts - capacity);
+
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertThat(course.getEnrolledCount()).isEqualTo(capacity);
+        assertThat(enrollmentRepository.countByCourseId(courseId)).isEqualTo(course.getEnrolledCount().longValue());
+        assertThat(seatReservationEngine.getAvailableSpots(courseId)).isZero();
+    }
+
+    @ParameterizedTest(name = "{0} queued enrollments for {1} seats, groups of {2}")
+    @CsvSource({
+            "400, 25, 50",
+            "300, 300, 50",
+            "300, 300, 1"
+    })
+    @DisplayName("Group commit through the admission queue should admit exactly capacity students with no count drift")
+    void admissionQueue_ShouldAdmitExactlyCapacityWithGroupCommit(int attempts, int capacity, int groupCommitSize)
+            throws InterruptedException {
+        // Given
+        Long courseId = createCourse(capacity);
+        enrollmentProperties.getAdmission().setGroupCommitSize(groupCommitSize);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        // When
+        ConcurrentLoad.Latencies latencies = ConcurrentLoad.run(THREADS, attempts, i -> {
+            try {
+                admissionQueue.submit(new EnrollmentRequest(courseId, "Contender " + i,
+                        EMAIL_PREFIX + "-" + courseId + "-" + i + "@example.com")).join();
+                admitted.incrementAndGet();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof CourseFullException) {
+                    full.incrementAndGet();
+                } else {
+                    log.error("Unexpected enrollment failure", e);
+                    unexpected.incrementAndGet();
+                }
+            }
+        });
+        log.info("Group commit N={} C={} group={}: admitted={} full={} p50={}ms p95={}ms p99={}ms max={}ms",
+                attempts, capacity, groupCommitSize, admitted.get(), full.get(),
+                latencies.percentileMillis(50), latencies.percentileMillis(95), latencies.percentileMillis(99),
+                latencies.maxMillis());
+
+        // Then
+        assertThat(unexpected.get()).isZero();
+        assertThat(admitted.get()).isEqualTo(capacity);
+        assertThat(full.get()).isEqualTo(attempts - capacity);
+
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertThat(course.getEnrolledCount()).isEqualTo(capacity);
+        assertThat(enrollmentRepository.countByCourseId(courseId)).isEqualTo(course.getEnrolledCount().longValue());
+        assertThat(seatReservationEngine.getAvailableSpots(courseId)).isZero();
+    }
+
+    private Long createCourse(int capacity) {
+        Course course = CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Flash Sale Course")
+                .withMaxCapacity(capacity)
+                .withEnrolledCount(0)
+                .build();
+        Long id = courseRepository.save(course).getId();
+        createdCourseIds.add(id);
+        return id;
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+}
@@ -0,0 +1,31 @@
+package com.curseando.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the sequence calls the pooled id optimizers make, registered for the
+ * test profile in application-test.properties. {@link StatementBudget} leaves
+ * them out: one happens every 50 ids, on whichever request finds the block
+ * used up, so where it lands depends on every test that ran before.
+ */
+public class IdBlockFetches implements StatementInspector {
+
+    private static final AtomicLong COUNT = new AtomicLong();
+
+    static long count() {
+        return COUNT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.toLowerCase(Locale.ROOT);
+        // H2 and Postgres forms of a sequence call
+        if (statement.startsWith("select next value for ") || statement.startsWith("select nextval(")) {
+            COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,115 @@
+package com.curseando.integration;
+
+import com.curseando.dto.BatchEnrollmentResponse;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.model.Student;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.service.BatchEnrollmentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts prepared statements with Hibernate statistics to prove inserts are
+ * sent in JDBC batches rather than one round trip per row.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JDBC Batching Integration Tests")
+class JdbcBatchingIntegrationTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BatchEnrollmentService batchEnrollmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    private Statistics statistics;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Cohort Course")
+                .withMaxCapacity(ROWS)
+                .withEnrolledCount(0)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith("batched"))
+                .toList());
+        courseRepository.deleteById(course.getId());
+    }
+
+    @Test
+    @DisplayName("saveAll() should insert rows in batches")
+    void saveAll_ShouldInsertInBatches() {
+        // Given
+        List<Student> students = IntStream.range(0, ROWS)
+                .mapToObj(i -> new Student("Batched Student " + i, "batched" + i + "@example.com"))
+                .toList();
+
+        // When
+        studentRepository.saveAll(students);
+
+        // Then: a few sequence calls and one statement per batch of 50, not one per row
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("enrollAll() should not issue statements per enrolled student")
+    void enrollAll_ShouldUseBoundedStatements() {
+        // Given
+        List<EnrollmentRequest> requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new EnrollmentRequest(course.getId(), "Batched Student " + i,
+                        "batched" + i + "@example.com"))
+                .toList();
+
+        // When
+        BatchEnrollmentResponse response = batchEnrollmentService.enrollAll(requests);
+
+        // Then: students, enrollments and their outbox events are all batched
+        assertThat(response.getEnrolled()).isEqualTo(ROWS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3L * ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(20);
+    }
+}
@@ -0,0 +1,57 @@
+package com.curseando.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks on a real Postgres that the migrated schema serves the catalog and
+ * enrollment lookups from indexes. Sequential scans are disabled for the
+ * transaction, so the plan falls back to one only when no index fits, which
+ * keeps the check meaningful on small tables.
+ *
+ * Skipped unless CONTENTION_DB_URL points at a local Postgres.
+ */
+@SpringBootTest
+@ActiveProfiles({ "test", "contention-postgres" })
+@EnabledIfEnvironmentVariable(named = ContentionDatabaseProfiles.POSTGRES_URL_VARIABLE, matches = ".+")
+@DisplayName("Query Plan Index Tests")
+class QueryPlanIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "catalog by difficulty | SELECT id FROM courses WHERE difficulty = 'BEGINNER' AND id > 0 ORDER BY id LIMIT 21 | idx_courses_difficulty_id",
+            "available courses     | SELECT id FROM courses WHERE id > 0 AND enrolled_count < max_capacity ORDER BY id LIMIT 21 | idx_courses_available_id",
+            "enrollments of course | SELECT count(*) FROM enrollments WHERE course_id = 1 | on enrollments",
+            "enrollments of student | SELECT id FROM enrollments WHERE student_id = 1 | idx_enrollments_student_id"
+    })
+    @DisplayName("Lookup queries should be planned as index scans")
+    void lookup_ShouldUseIndex(String lookup, String sql, String expectedIndex) {
+        // When
+        List<String> plan = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        });
+
+        // Then
+        String text = String.join("\n", plan);
+        assertThat(text).as(lookup).contains("Index").contains(expectedIndex).doesNotContain("Seq Scan");
+    }
+}
@@ -0,0 +1,41 @@
+package com.curseando.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while an action runs, and fails
+ * when a path goes over its budget. Every statement is a database round trip,
+ * so a new query sneaking into a hot path breaks the build instead of the
+ * latency graphs. Id block fetches are not counted; see {@link IdBlockFetches}.
+ */
+final class StatementBudget {
+
+    private final Statistics statistics;
+
+    StatementBudget(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    long count(Runnable action) {
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        long idBlockFetches = IdBlockFetches.count();
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount() - (IdBlockFetches.count() - idBlockFetches);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    void assertWithin(long budget, String path, Runnable action) {
+        long statements = count(action);
+        assertThat(statements)
+                .as("%s issued %d statements, budget is %d", path, statements, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
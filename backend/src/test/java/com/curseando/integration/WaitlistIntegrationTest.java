@@ -0,0 +1,168 @@
+package com.curseando.integration;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.exception.CourseFullException;
+import com.curseando.exception.WaitlistEntryNotFoundException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.repository.WaitlistEntryRepository;
+import com.curseando.service.EnrollmentService;
+import com.curseando.service.SeatReservationEngine;
+import com.curseando.service.WaitlistPromoter;
+import com.curseando.service.WaitlistService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A full course queues students, and raising its capacity lets the promoter
+ * enroll them in ticket order. Not transactional: promotions commit their own
+ * transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Waitlist Integration Tests")
+class WaitlistIntegrationTest {
+
+    private static final String EMAIL_PREFIX = "waitlist.";
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private SeatReservationEngine seatReservationEngine;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Waitlisted Course")
+                .withMaxCapacity(1)
+                .withEnrolledCount(0)
+                .build());
+        enrollmentService.enroll(request("first"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitlistEntryRepository.deleteAll();
+        enrollmentRepository.deleteAll(enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getCourse().getId().equals(course.getId()))
+                .toList());
+        studentRepository.deleteAll(studentRepository.findAll().stream()
+                .filter(student -> student.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+        courseRepository.deleteById(course.getId());
+        seatReservationEngine.evict(course.getId());
+    }
+
+    @Test
+    @DisplayName("A full course should queue students in arrival order")
+    void join_ShouldQueueInArrivalOrder() {
+        // Given
+        assertThatThrownBy(() -> enrollmentService.enroll(request("second")))
+                .isInstanceOf(CourseFullException.class);
+
+        // When
+        long second = waitlistService.join(request("second")).getPosition();
+        long third = waitlistService.join(request("third")).getPosition();
+        long secondAgain = waitlistService.join(request("second")).getPosition();
+
+        // Then
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isEqualTo(2);
+        assertThat(secondAgain).isEqualTo(1);
+        assertThat(waitlistService.getPosition(course.getId(), EMAIL_PREFIX + "third@example.com").getPosition())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Raising capacity should promote the head of the queue and move everyone up")
+    void promoteAll_ShouldEnrollHeadOfQueueWhenSeatsAppear() {
+        // Given
+        waitlistService.join(request("second"));
+        waitlistService.join(request("third"));
+        waitlistService.join(request("fourth"));
+        double promotedBefore = meterRegistry.counter("waitlist.promoted").count();
+
+        // When: two more seats appear
+        Course stored = courseRepository.findById(course.getId()).orElseThrow();
+        stored.setMaxCapacity(3);
+        courseRepository.save(stored);
+        int promoted = waitlistPromoter.promoteAll();
+
+        // Then
+        assertThat(promoted).isEqualTo(2);
+        assertThat(enrollmentRepository.existsByCourseIdAndStudentEmail(course.getId(), EMAIL_PREFIX + "second@example.com"))
+                .isTrue();
+        assertThat(enrollmentRepository.existsByCourseIdAndStudentEmail(course.getId(), EMAIL_PREFIX + "third@example.com"))
+                .isTrue();
+        assertThat(waitlistService.getPosition(course.getId(), EMAIL_PREFIX + "fourth@example.com").getPosition())
+                .isEqualTo(1);
+        assertThatThrownBy(() -> waitlistService.getPosition(course.getId(), EMAIL_PREFIX + "second@example.com"))
+                .isInstanceOf(WaitlistEntryNotFoundException.class);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolledCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("waitlist.promoted").count() - promotedBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A freed seat should go to the waitlist rather than to a new enrollment")
+    void enroll_ShouldNotTakeSeatAheadOfWaitlist() {
+        // Given
+        waitlistService.join(request("second"));
+        Course stored = courseRepository.findById(course.getId()).orElseThrow();
+        stored.setMaxCapacity(2);
+        courseRepository.save(stored);
+        seatReservationEngine.evict(course.getId());
+
+        // When
+        assertThatThrownBy(() -> enrollmentService.enroll(request("walk-in")))
+                .isInstanceOf(CourseFullException.class);
+        int promoted = waitlistPromoter.promoteAll();
+
+        // Then
+        assertThat(promoted).isEqualTo(1);
+        assertThat(enrollmentRepository.existsByCourseIdAndStudentEmail(course.getId(), EMAIL_PREFIX + "second@example.com"))
+                .isTrue();
+        assertThat(enrollmentRepository.existsByCourseIdAndStudentEmail(course.getId(), EMAIL_PREFIX + "walk-in@example.com"))
+                .isFalse();
+    }
+
+    private EnrollmentRequest request(String name) {
+        return new EnrollmentRequest(course.getId(), "Student " + name, EMAIL_PREFIX + name + "@example.com");
+    }
+}
@@ -1,5 +1,7 @@
 package com.curseando.repository;
 
+import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CourseSummaryDTO;
 import com.curseando.fixtures.CourseTestFixtures;
 import com.curseando.fixtures.EnrollmentTestFixtures;
 import com.curseando.fixtures.StudentTestFixtures;
@@ -7,18 +9,20 @@ import com.curseando.model.Course;
 import com.curseando.model.DifficultyLevel;
 import com.curseando.model.Enrollment;
 import com.curseando.model.Student;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
 @DisplayName("CourseRepository Tests")
 class CourseRepositoryTest {
 
@@ -100,6 +104,81 @@ class CourseRepositoryTest {
         assertThat(availableCourses).allMatch(course -> course.getEnrolledCount() < course.getMaxCapacity());
     }
 
+    @Test
+    @DisplayName("findByIdAsDTO() should project columns without managing the entity")
+    void findByIdAsDTO_ShouldProjectWithoutManagingEntity() {
+        // Given
+        entityManager.clear();
+
+        // When
+        CourseDTO course = courseRepository.findByIdAsDTO(intermediateCourse.getId()).orElseThrow();
+        List<CourseSummaryDTO> beginner = courseRepository.findSummariesByDifficulty(DifficultyLevel.BEGINNER);
+
+        // Then
+        assertThat(course.getTitle()).isEqualTo("Intermediate Course");
+        assertThat(course.getAvailableSpots()).isEqualTo(10);
+        assertThat(course.getVersion()).isEqualTo(intermediateCourse.getVersion());
+        assertThat(beginner).extracting(CourseSummaryDTO::getTitle).containsExactly("Beginner Course");
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("findAllSummaries() should cut the description to a teaser in the query")
+    void findAllSummaries_ShouldCutDescriptionToTeaser() {
+        // Given
+        Course longDescription = CourseTestFixtures.builder()
+                .withId(null)
+                .withTitle("Long Description Course")
+                .withDescription("x".repeat(CourseSummaryDTO.TEASER_LENGTH * 10))
+                .build();
+        entityManager.persistAndFlush(longDescription);
+
+        // When
+        List<CourseSummaryDTO> summaries = courseRepository.findAllSummaries();
+
+        // Then
+        assertThat(summaries).extracting(CourseSummaryDTO::getTitle)
+                .containsExactly("Beginner Course", "Intermediate Course", "Advanced Course", "Long Description Course");
+        assertThat(summaries.get(3).getTeaser()).hasSize(CourseSummaryDTO.TEASER_LENGTH);
+        assertThat(summaries.get(0).getTeaser()).isEqualTo(beginnerCourse.getDescription());
+    }
+
+    @Test
+    @DisplayName("findPageAfter() should walk courses in id order from the cursor")
+    void findPageAfter_ShouldWalkCoursesFromCursor() {
+        // Given
+        long start = beginnerCourse.getId() - 1;
+
+        // When
+        List<CourseSummaryDTO> firstPage = courseRepository.findPageAfter(start, null, false, Limit.of(2));
+        List<CourseSummaryDTO> secondPage = courseRepository.findPageAfter(firstPage.get(1).getId(), null, false, Limit.of(2));
+
+        // Then
+        assertThat(firstPage).extracting(CourseSummaryDTO::getTitle)
+                .containsExactly("Beginner Course", "Intermediate Course");
+        assertThat(secondPage).extracting(CourseSummaryDTO::getTitle).containsExactly("Advanced Course");
+    }
+
+    @Test
+    @DisplayName("findPageAfter() should apply difficulty and availability filters")
+    void findPageAfter_ShouldApplyFilters() {
+        // Given
+        long start = beginnerCourse.getId() - 1;
+
+        // When
+        List<CourseSummaryDTO> advanced = courseRepository.findPageAfter(start, DifficultyLevel.ADVANCED, false, Limit.of(10));
+        List<CourseSummaryDTO> available = courseRepository.findPageAfter(start, null, true, Limit.of(10));
+        List<CourseSummaryDTO> availableAdvanced = courseRepository.findPageAfter(start, DifficultyLevel.ADVANCED, true,
+                Limit.of(10));
+
+        // Then
+        assertThat(advanced).extracting(CourseSummaryDTO::getTitle).containsExactly("Advanced Course");
+        assertThat(available).extracting(CourseSummaryDTO::getTitle)
+                .containsExactly("Beginner Course", "Intermediate Course");
+        assertThat(availableAdvanced).isEmpty();
+    }
+
     @Test
     @DisplayName("countEnrollmentsByCourseId() should count correctly")
     void countEnrollmentsByCourseId_ShouldCountCorrectly() {
@@ -148,4 +227,30 @@ class CourseRepositoryTest {
         // Then
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("incrementEnrolledCountIfAvailable() should take a seat when available")
+    void incrementEnrolledCountIfAvailable_ShouldTakeSeatWhenAvailable() {
+        // When
+        int updated = courseRepository.incrementEnrolledCountIfAvailable(beginnerCourse.getId());
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        Course reloaded = courseRepository.findById(beginnerCourse.getId()).orElseThrow();
+        assertThat(reloaded.getEnrolledCount()).isEqualTo(11);
+        assertThat(reloaded.getVersion()).isEqualTo(beginnerCourse.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("incrementEnrolledCountIfAvailable() should not touch a full course")
+    void incrementEnrolledCountIfAvailable_ShouldNotTouchFullCourse() {
+        // When
+        int updated = courseRepository.incrementEnrolledCountIfAvailable(advancedCourse.getId());
+
+        // Then
+        assertThat(updated).isEqualTo(0);
+        Course reloaded = courseRepository.findById(advancedCourse.getId()).orElseThrow();
+        assertThat(reloaded.getEnrolledCount()).isEqualTo(20);
+        assertThat(reloaded.getVersion()).isEqualTo(advancedCourse.getVersion());
+    }
 }
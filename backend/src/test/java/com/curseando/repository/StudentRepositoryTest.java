@@ -0,0 +1,85 @@
+package com.curseando.repository;
+
+import com.curseando.fixtures.StudentTestFixtures;
+import com.curseando.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+@DisplayName("StudentRepository Tests")
+class StudentRepositoryTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private StudentRepository studentRepository;
+
+        private Student existingStudent;
+
+        @BeforeEach
+        void setUp() {
+                entityManager.clear();
+
+                existingStudent = entityManager.persistAndFlush(StudentTestFixtures.builder()
+                                .withId(null)
+                                .withFullName("John Doe")
+                                .withEmail("john.doe@example.com")
+                                .build());
+        }
+
+        @Test
+        @DisplayName("upsertByEmail() should insert a student seen for the first time")
+        void upsertByEmail_ShouldInsertNewStudent() {
+                // When
+                Student student = studentRepository.upsertByEmail("Jane Roe", "jane.roe@example.com");
+
+                // Then
+                assertThat(student.getId()).isNotNull().isNotEqualTo(existingStudent.getId());
+                assertThat(student.getFullName()).isEqualTo("Jane Roe");
+                assertThat(studentRepository.findByEmail("jane.roe@example.com"))
+                                .map(Student::getId)
+                                .contains(student.getId());
+        }
+
+        @Test
+        @DisplayName("upsertByEmail() should return the stored student unchanged")
+        void upsertByEmail_ShouldReturnExistingStudent() {
+                // When
+                Student student = studentRepository.upsertByEmail("Johnny Doe", "john.doe@example.com");
+
+                // Then
+                assertThat(student.getId()).isEqualTo(existingStudent.getId());
+                assertThat(student.getFullName()).isEqualTo("John Doe");
+                assertThat(studentRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("upsertByEmail() ids should never collide with ids Hibernate allocates")
+        void upsertByEmail_ShouldNotCollideWithPooledIds() {
+                // When
+                List<Student> saved = studentRepository.saveAllAndFlush(IntStream.range(0, 60)
+                                .mapToObj(i -> new Student("Pooled " + i, "pooled" + i + "@example.com"))
+                                .toList());
+                Student upserted = studentRepository.upsertByEmail("Upserted", "upserted@example.com");
+                Student savedAfter = studentRepository.saveAndFlush(new Student("After", "after@example.com"));
+
+                // Then
+                Set<Long> ids = new HashSet<>();
+                saved.forEach(student -> ids.add(student.getId()));
+                ids.add(existingStudent.getId());
+                assertThat(ids.add(upserted.getId())).isTrue();
+                assertThat(ids.add(savedAfter.getId())).isTrue();
+        }
+}
@@ -0,0 +1,181 @@
+package com.curseando.service;
+
+import com.curseando.config.CatalogProperties;
+import com.curseando.dto.CourseSummaryDTO;
+import com.curseando.event.CourseSeatsChangedEvent;
+import com.curseando.model.DifficultyLevel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogSnapshotService Tests")
+class CatalogSnapshotServiceTest {
+
+    @Mock
+    private CourseService courseService;
+
+    private CatalogSnapshotService catalogSnapshotService;
+
+    private final CourseSummaryDTO beginnerCourse = new CourseSummaryDTO(1L, "Course 1", "Instructor", "40 hours",
+            DifficultyLevel.BEGINNER, "Description", 50, 10, null);
+
+    @BeforeEach
+    void setUp() {
+        CatalogProperties properties = new CatalogProperties();
+        properties.setSnapshotMaxAge(Duration.ofMinutes(5));
+        catalogSnapshotService = new CatalogSnapshotService(courseService, new ObjectMapper(), properties);
+    }
+
+    @Test
+    @DisplayName("getAll() should serialize once and share the same bytes")
+    void getAll_ShouldSerializeOnceAndShareBytes() {
+        // Given
+        when(courseService.findAll()).thenReturn(List.of(beginnerCourse));
+
+        // When
+        CatalogSnapshot first = catalogSnapshotService.getAll();
+        CatalogSnapshot second = catalogSnapshotService.getAll();
+
+        // Then
+        assertThat(second.getJson()).isSameAs(first.getJson());
+        assertThat(new String(first.getJson(), StandardCharsets.UTF_8))
+                .contains("\"title\":\"Course 1\"")
+                .contains("\"availableSpots\":40");
+        verify(courseService, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("getByDifficulty() should keep one snapshot per difficulty")
+    void getByDifficulty_ShouldKeepOneSnapshotPerDifficulty() {
+        // Given
+        when(courseService.findByDifficulty(DifficultyLevel.BEGINNER)).thenReturn(List.of(beginnerCourse));
+        when(courseService.findByDifficulty(DifficultyLevel.ADVANCED)).thenReturn(List.of());
+
+        // When
+        CatalogSnapshot beginner = catalogSnapshotService.getByDifficulty(DifficultyLevel.BEGINNER);
+        CatalogSnapshot advanced = catalogSnapshotService.getByDifficulty(DifficultyLevel.ADVANCED);
+
+        // Then
+        assertThat(new String(beginner.getJson(), StandardCharsets.UTF_8)).contains("Course 1");
+        assertThat(new String(advanced.getJson(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("onSeatsChanged() should rebuild the snapshot on next read")
+    void onSeatsChanged_ShouldRebuildOnNextRead() {
+        // Given
+        CourseSummaryDTO afterEnrollment = new CourseSummaryDTO(1L, "Course 1", "Instructor", "40 hours",
+                DifficultyLevel.BEGINNER, "Description", 50, 11, null);
+        when(courseService.findAll())
+                .thenReturn(List.of(beginnerCourse))
+                .thenReturn(List.of(afterEnrollment));
+        CatalogSnapshot before = catalogSnapshotService.getAll();
+
+        // When
+        catalogSnapshotService.onSeatsChanged(new CourseSeatsChangedEvent(1L));
+        CatalogSnapshot after = catalogSnapshotService.getAll();
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(new String(after.getJson(), StandardCharsets.UTF_8)).contains("\"enrolledCount\":11");
+        verify(courseService, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Snapshot ETag should only change when a course version changes")
+    void etag_ShouldFollowCourseVersions() {
+        // Given
+        CourseSummaryDTO version1 = new CourseSummaryDTO(1L, "Course 1", "Instructor", "40 hours",
+                DifficultyLevel.BEGINNER, "Description", 50, 10, 1L);
+        CourseSummaryDTO version2 = new CourseSummaryDTO(1L, "Course 1", "Instructor", "40 hours",
+                DifficultyLevel.BEGINNER, "Description", 50, 11, 2L);
+        when(courseService.findAll())
+                .thenReturn(List.of(version1))
+                .thenReturn(List.of(version1))
+                .thenReturn(List.of(version2));
+
+        // When
+        String first = catalogSnapshotService.getAll().getEtag();
+        catalogSnapshotService.invalidate();
+        String rebuiltUnchanged = catalogSnapshotService.getAll().getEtag();
+        catalogSnapshotService.invalidate();
+        String afterEnrollment = catalogSnapshotService.getAll().getEtag();
+
+        // Then
+        assertThat(first).startsWith("\"all-1-").endsWith("\"");
+        assertThat(rebuiltUnchanged).isEqualTo(first);
+        assertThat(afterEnrollment).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Snapshots above the threshold should carry a gzip copy of the same JSON")
+    void build_ShouldPrecompressLargeViews() throws IOException {
+        // Given
+        List<CourseSummaryDTO> largeCatalog = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> new CourseSummaryDTO(id, "Course " + id, "Instructor", "40 hours",
+                        DifficultyLevel.BEGINNER, "Description", 50, 10, 1L))
+                .toList();
+        when(courseService.findAll()).thenReturn(largeCatalog);
+        when(courseService.findByDifficulty(DifficultyLevel.BEGINNER)).thenReturn(List.of(beginnerCourse));
+
+        // When
+        CatalogSnapshot large = catalogSnapshotService.getAll();
+        CatalogSnapshot small = catalogSnapshotService.getByDifficulty(DifficultyLevel.BEGINNER);
+
+        // Then
+        assertThat(large.getGzip()).isNotNull();
+        assertThat(large.getGzip().length).isLessThan(large.getJson().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.getJson());
+        }
+        assertThat(large.getGzipEtag()).isNotEqualTo(large.getEtag()).endsWith("-gzip\"");
+        assertThat(small.getGzip()).isNull();
+    }
+
+    @Test
+    @DisplayName("A view should be rebuilt once for concurrent readers, without holding up other views")
+    void snapshot_ShouldRebuildOnceOutsideTheMap() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(courseService.findAll()).thenAnswer(invocation -> {
+            loading.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of(beginnerCourse);
+        });
+        when(courseService.findByDifficulty(DifficultyLevel.BEGINNER)).thenReturn(List.of(beginnerCourse));
+        CompletableFuture<CatalogSnapshot> first = CompletableFuture.supplyAsync(catalogSnapshotService::getAll);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<CatalogSnapshot> second = CompletableFuture.supplyAsync(catalogSnapshotService::getAll);
+
+        // When
+        CatalogSnapshot other = catalogSnapshotService.getByDifficulty(DifficultyLevel.BEGINNER);
+        release.countDown();
+
+        // Then
+        assertThat(other.getJson()).isNotEmpty();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        verify(courseService, times(1)).findAll();
+    }
+}
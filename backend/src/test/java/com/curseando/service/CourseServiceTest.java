@@ -1,6 +1,8 @@
 package com.curseando.service;
 
 import com.curseando.dto.CourseDTO;
+import com.curseando.dto.CoursePage;
+import com.curseando.dto.CourseSummaryDTO;
 import com.curseando.fixtures.CourseTestFixtures;
 import com.curseando.model.Course;
 import com.curseando.model.DifficultyLevel;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -43,20 +46,14 @@ class CourseServiceTest {
     @DisplayName("findAll() should return all courses as DTOs")
     void findAll_ShouldReturnAllCoursesAsDTOs() {
         // Given
-        Course course1 = CourseTestFixtures.builder()
-                .withId(1L)
-                .withTitle("Course 1")
-                .build();
-        Course course2 = CourseTestFixtures.builder()
-                .withId(2L)
-                .withTitle("Course 2")
-                .build();
-        List<Course> courses = Arrays.asList(course1, course2);
-
-        when(courseRepository.findAll()).thenReturn(courses);
+        CourseSummaryDTO course1 = courseSummary(1L, "Course 1", DifficultyLevel.BEGINNER);
+        CourseSummaryDTO course2 = courseSummary(2L, "Course 2", DifficultyLevel.INTERMEDIATE);
+        List<CourseSummaryDTO> courses = Arrays.asList(course1, course2);
+
+        when(courseRepository.findAllSummaries()).thenReturn(courses);
 
         // When
-        List<CourseDTO> result = courseService.findAll();
+        List<CourseSummaryDTO> result = courseService.findAll();
 
         // Then
         assertThat(result).hasSize(2);
@@ -70,37 +67,60 @@ class CourseServiceTest {
     @DisplayName("findAll() should return empty list when no courses exist")
     void findAll_ShouldReturnEmptyListWhenNoCourses() {
         // Given
-        when(courseRepository.findAll()).thenReturn(Collections.emptyList());
+        when(courseRepository.findAllSummaries()).thenReturn(Collections.emptyList());
 
         // When
-        List<CourseDTO> result = courseService.findAll();
+        List<CourseSummaryDTO> result = courseService.findAll();
 
         // Then
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("findPage() should return the cursor of the last item only when more courses follow")
+    void findPage_ShouldReturnNextCursorOnlyWhenMoreFollow() {
+        // Given
+        CourseSummaryDTO course1 = courseSummary(11L, "Course 11", DifficultyLevel.BEGINNER);
+        CourseSummaryDTO course2 = courseSummary(12L, "Course 12", DifficultyLevel.BEGINNER);
+        CourseSummaryDTO course3 = courseSummary(13L, "Course 13", DifficultyLevel.BEGINNER);
+        when(courseRepository.findPageAfter(10L, null, true, Limit.of(3)))
+                .thenReturn(List.of(course1, course2, course3));
+        when(courseRepository.findPageAfter(12L, null, true, Limit.of(3)))
+                .thenReturn(List.of(course3));
+
+        // When
+        CoursePage firstPage = courseService.findPage(10L, 2, null, true);
+        CoursePage lastPage = courseService.findPage(12L, 2, null, true);
+
+        // Then
+        assertThat(firstPage.getItems()).extracting(CourseSummaryDTO::getId).containsExactly(11L, 12L);
+        assertThat(firstPage.getNextCursor()).isEqualTo(12L);
+        assertThat(lastPage.getItems()).extracting(CourseSummaryDTO::getId).containsExactly(13L);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("findById() should return course DTO when exists")
     void findById_ShouldReturnCourseDTOWhenExists() {
         // Given
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        CourseDTO course = courseDTO(1L, "Course 1", DifficultyLevel.BEGINNER);
+        when(courseRepository.findByIdAsDTO(1L)).thenReturn(Optional.of(course));
 
         // When
         Optional<CourseDTO> result = courseService.findById(1L);
 
         // Then
         assertThat(result).isPresent();
-        assertThat(result.get().getId()).isEqualTo(testCourse.getId());
-        assertThat(result.get().getTitle()).isEqualTo(testCourse.getTitle());
-        assertThat(result.get().getInstructor()).isEqualTo(testCourse.getInstructor());
-        assertThat(result.get().getDifficulty()).isEqualTo(testCourse.getDifficulty());
+        assertThat(result.get().getId()).isEqualTo(1L);
+        assertThat(result.get().getTitle()).isEqualTo("Course 1");
+        assertThat(result.get().getVersion()).isEqualTo(3L);
     }
 
     @Test
     @DisplayName("findById() should return empty when not found")
     void findById_ShouldReturnEmptyWhenNotFound() {
         // Given
-        when(courseRepository.findById(999L)).thenReturn(Optional.empty());
+        when(courseRepository.findByIdAsDTO(999L)).thenReturn(Optional.empty());
 
         // When
         Optional<CourseDTO> result = courseService.findById(999L);
@@ -113,14 +133,14 @@ class CourseServiceTest {
     @DisplayName("findByDifficulty() should filter by difficulty level")
     void findByDifficulty_ShouldFilterByDifficultyLevel() {
         // Given
-        Course beginnerCourse = CourseTestFixtures.createBeginnerCourse();
-        List<Course> beginnerCourses = Collections.singletonList(beginnerCourse);
+        List<CourseSummaryDTO> beginnerCourses = Collections.singletonList(
+                courseSummary(1L, "Beginner Course", DifficultyLevel.BEGINNER));
 
-        when(courseRepository.findByDifficulty(DifficultyLevel.BEGINNER))
+        when(courseRepository.findSummariesByDifficulty(DifficultyLevel.BEGINNER))
                 .thenReturn(beginnerCourses);
 
         // When
-        List<CourseDTO> result = courseService.findByDifficulty(DifficultyLevel.BEGINNER);
+        List<CourseSummaryDTO> result = courseService.findByDifficulty(DifficultyLevel.BEGINNER);
 
         // Then
         assertThat(result).hasSize(1);
@@ -180,4 +200,12 @@ class CourseServiceTest {
         assertThat(result.getId()).isEqualTo(testCourse.getId());
         assertThat(result.getTitle()).isEqualTo(testCourse.getTitle());
     }
+
+    private static CourseDTO courseDTO(Long id, String title, DifficultyLevel difficulty) {
+        return new CourseDTO(id, title, "Instructor", "40 hours", difficulty, "Description", 50, 25, 3L);
+    }
+
+    private static CourseSummaryDTO courseSummary(Long id, String title, DifficultyLevel difficulty) {
+        return new CourseSummaryDTO(id, title, "Instructor", "40 hours", difficulty, "Description", 50, 25, 3L);
+    }
 }
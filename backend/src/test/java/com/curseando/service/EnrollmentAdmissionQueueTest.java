@@ -0,0 +1,226 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.exception.CourseFullException;
+import com.curseando.exception.CourseNotFoundException;
+import com.curseando.exception.EnrollmentQueueFullException;
+import com.curseando.service.EnrollmentService.EnrollmentOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrollmentAdmissionQueue Tests")
+class EnrollmentAdmissionQueueTest {
+
+    @Mock
+    private EnrollmentService enrollmentService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EnrollmentAdmissionQueue admissionQueue;
+
+    @AfterEach
+    void tearDown() {
+        admissionQueue.destroy();
+    }
+
+    @Test
+    @DisplayName("submit() should complete with the enrollment or the exception of enroll()")
+    void submit_ShouldCompleteWithEnrollmentOrException() {
+        // Given
+        admissionQueue = newQueue(2, 10, 1);
+        EnrollmentRequest accepted = request(1L, "accepted");
+        EnrollmentRequest full = request(1L, "full");
+        when(enrollmentService.enroll(accepted)).thenReturn(response(accepted));
+        when(enrollmentService.enroll(full)).thenThrow(new CourseFullException(1L));
+
+        // When
+        CompletableFuture<EnrollmentResponse> success = admissionQueue.submit(accepted);
+        CompletableFuture<EnrollmentResponse> failure = admissionQueue.submit(full);
+
+        // Then
+        assertThat(success).succeedsWithin(5, TimeUnit.SECONDS)
+                .extracting(EnrollmentResponse::getStudentEmail).isEqualTo("accepted@example.com");
+        assertThat(failure).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(CourseFullException.class);
+    }
+
+    @Test
+    @DisplayName("submit() should reject a course whose queue is full without affecting other courses")
+    void submit_ShouldRejectWhenCourseQueueIsFull() throws InterruptedException {
+        // Given
+        admissionQueue = newQueue(1, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EnrollmentRequest first = request(1L, "first");
+        when(enrollmentService.enroll(any(EnrollmentRequest.class))).thenAnswer(invocation -> {
+            EnrollmentRequest request = invocation.getArgument(0);
+            if (request == first) {
+                block(started, release);
+            }
+            return response(request);
+        });
+        CompletableFuture<EnrollmentResponse> running = admissionQueue.submit(first);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<EnrollmentResponse> waiting = admissionQueue.submit(request(1L, "second"));
+
+        // When/Then
+        assertThatThrownBy(() -> admissionQueue.submit(request(1L, "third")))
+                .isInstanceOf(EnrollmentQueueFullException.class);
+        CompletableFuture<EnrollmentResponse> otherCourse = admissionQueue.submit(request(2L, "other"));
+        assertThat(admissionQueue.waiting()).isEqualTo(2);
+        assertThat(meterRegistry.get("enrollment.admission.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(CompletableFuture.allOf(running, waiting, otherCourse)).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(admissionQueue.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("submit() should let courses take turns instead of draining one queue first")
+    void submit_ShouldLetCoursesTakeTurns() throws InterruptedException {
+        // Given
+        admissionQueue = newQueue(1, 10, 1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EnrollmentRequest first = request(1L, "hot-1");
+        when(enrollmentService.enroll(any(EnrollmentRequest.class))).thenAnswer(invocation -> {
+            EnrollmentRequest request = invocation.getArgument(0);
+            if (request == first) {
+                block(started, release);
+            } else {
+                order.add(request.getFullName());
+            }
+            return response(request);
+        });
+        admissionQueue.submit(first);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        admissionQueue.submit(request(1L, "hot-2"));
+        admissionQueue.submit(request(1L, "hot-3"));
+        CompletableFuture<EnrollmentResponse> last = admissionQueue.submit(request(2L, "quiet-1"));
+        release.countDown();
+
+        // Then
+        assertThat(last).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(order).startsWith("quiet-1");
+    }
+
+    @Test
+    @DisplayName("submit() should commit the requests waiting for a course as one group")
+    void submit_ShouldGroupCommitWaitingRequests() throws InterruptedException {
+        // Given
+        admissionQueue = newQueue(1, 10, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EnrollmentRequest first = request(1L, "first");
+        when(enrollmentService.enroll(first)).thenAnswer(invocation -> {
+            block(started, release);
+            return response(first);
+        });
+        admissionQueue.submit(first);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        EnrollmentRequest second = request(1L, "second");
+        EnrollmentRequest third = request(1L, "third");
+        when(enrollmentService.enrollGroup(List.of(second, third))).thenReturn(List.of(
+                new EnrollmentOutcome(response(second), null),
+                new EnrollmentOutcome(null, new CourseFullException(1L))));
+
+        // When
+        CompletableFuture<EnrollmentResponse> enrolled = admissionQueue.submit(second);
+        CompletableFuture<EnrollmentResponse> full = admissionQueue.submit(third);
+        release.countDown();
+
+        // Then
+        assertThat(enrolled).succeedsWithin(5, TimeUnit.SECONDS)
+                .extracting(EnrollmentResponse::getStudentEmail).isEqualTo("second@example.com");
+        assertThat(full).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(CourseFullException.class);
+        verify(enrollmentService, never()).enroll(second);
+        assertThat(meterRegistry.get("enrollment.admission.group.size").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("submit() should drop a course queue once it is drained, including for unknown courses")
+    void submit_ShouldDropDrainedCourseQueues() throws InterruptedException {
+        // Given
+        admissionQueue = newQueue(2, 10, 1);
+        when(enrollmentService.enroll(any(EnrollmentRequest.class))).thenAnswer(invocation -> {
+            EnrollmentRequest request = invocation.getArgument(0);
+            if (request.getCourseId() > 100) {
+                throw new CourseNotFoundException(request.getCourseId());
+            }
+            return response(request);
+        });
+
+        // When
+        List<CompletableFuture<EnrollmentResponse>> results = LongStream.rangeClosed(1, 200)
+                .mapToObj(courseId -> admissionQueue.submit(request(courseId, "student-" + courseId)))
+                .toList();
+
+        // Then
+        assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)))
+                .failsWithin(5, TimeUnit.SECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (admissionQueue.courseQueues() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(admissionQueue.courseQueues()).isZero();
+        // A course whose queue was dropped gets a new one
+        assertThat(admissionQueue.submit(request(1L, "again"))).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+    private EnrollmentAdmissionQueue newQueue(int lanes, int queueDepth, int groupCommitSize) {
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.getAdmission().setLanes(lanes);
+        properties.getAdmission().setQueueDepth(queueDepth);
+        properties.getAdmission().setGroupCommitSize(groupCommitSize);
+        return new EnrollmentAdmissionQueue(enrollmentService, properties, meterRegistry);
+    }
+
+    private static EnrollmentRequest request(Long courseId, String name) {
+        return new EnrollmentRequest(courseId, name, name + "@example.com");
+    }
+
+    private static EnrollmentResponse response(EnrollmentRequest request) {
+        return new EnrollmentResponse(1L, request.getCourseId(), "Course", request.getFullName(),
+                request.getEmail(), LocalDateTime.now(), 10);
+    }
+
+    private static void block(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.EnrollmentRepository.CourseStudentIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrollmentMembershipIndex Tests")
+class EnrollmentMembershipIndexTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private EnrollmentMembershipIndex membershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.getMembership().setExpectedEnrollmentsPerCourse(1_000);
+        properties.getMembership().setFalsePositiveRate(0.01);
+        membershipIndex = new EnrollmentMembershipIndex(enrollmentRepository, properties);
+    }
+
+    @Test
+    @DisplayName("mightBeEnrolled() should never miss a recorded enrollment")
+    void mightBeEnrolled_ShouldHaveNoFalseNegatives() {
+        // When
+        LongStream.rangeClosed(1, 1_000).forEach(studentId -> membershipIndex.recordEnrollment(1L, studentId));
+
+        // Then
+        assertThat(LongStream.rangeClosed(1, 1_000).allMatch(studentId -> membershipIndex.mightBeEnrolled(1L, studentId)))
+                .isTrue();
+        assertThat(membershipIndex.mightBeEnrolled(2L, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("mightBeEnrolled() should stay near the configured false positive rate")
+    void mightBeEnrolled_ShouldKeepFalsePositivesRare() {
+        // Given
+        LongStream.rangeClosed(1, 1_000).forEach(studentId -> membershipIndex.recordEnrollment(1L, studentId));
+
+        // When
+        long falsePositives = LongStream.rangeClosed(1_001, 11_000)
+                .filter(studentId -> membershipIndex.mightBeEnrolled(1L, studentId))
+                .count();
+
+        // Then: 1% of 10,000 expected, with room for hash variance
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("rebuild() should load every stored enrollment into the filters")
+    void rebuild_ShouldLoadStoredEnrollments() {
+        // Given
+        when(enrollmentRepository.streamCourseStudentIds())
+                .thenReturn(Stream.of(ids(1L, 10L), ids(1L, 11L), ids(2L, 10L)));
+
+        // When
+        membershipIndex.rebuild();
+
+        // Then
+        assertThat(membershipIndex.mightBeEnrolled(1L, 10L)).isTrue();
+        assertThat(membershipIndex.mightBeEnrolled(1L, 11L)).isTrue();
+        assertThat(membershipIndex.mightBeEnrolled(2L, 10L)).isTrue();
+        assertThat(membershipIndex.mightBeEnrolled(3L, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("findStudent() should return remembered students until forgotten")
+    void findStudent_ShouldReturnRememberedStudent() {
+        // When
+        membershipIndex.rememberStudent("john.doe@example.com", 5L, "John Doe");
+
+        // Then
+        assertThat(membershipIndex.findStudent("john.doe@example.com"))
+                .isEqualTo(new EnrollmentMembershipIndex.KnownStudent(5L, "John Doe"));
+        membershipIndex.forgetStudent("john.doe@example.com");
+        assertThat(membershipIndex.findStudent("john.doe@example.com")).isNull();
+    }
+
+    private static CourseStudentIds ids(Long courseId, Long studentId) {
+        return new CourseStudentIds() {
+            @Override
+            public Long getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public Long getStudentId() {
+                return studentId;
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.event.EnrollmentEventSink;
+import com.curseando.model.EnrollmentOutboxEvent;
+import com.curseando.repository.EnrollmentOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrollmentOutboxRelay Tests")
+class EnrollmentOutboxRelayTest {
+
+    @Mock
+    private EnrollmentOutboxRepository outboxRepository;
+
+    @Mock
+    private EnrollmentEventSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EnrollmentOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.getOutbox().setBatchSize(2);
+        properties.getOutbox().setMaxBatchesPerRun(3);
+        relay = new EnrollmentOutboxRelay(outboxRepository, sink, properties, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("relay() should publish and delete batches until the outbox is drained")
+    void relay_ShouldDrainOutboxInBatches() {
+        // Given
+        List<EnrollmentOutboxEvent> first = events(1, 2);
+        List<EnrollmentOutboxEvent> second = events(3, 3);
+        when(outboxRepository.lockOldest(any(Limit.class))).thenReturn(first, second);
+
+        // When
+        int published = relay.relay();
+
+        // Then
+        assertThat(published).isEqualTo(3);
+        verify(sink).publish(first.stream().map(EnrollmentOutboxEvent::toEvent).toList());
+        verify(sink).publish(List.of(second.get(0).toEvent()));
+        verify(outboxRepository).deleteAllInBatch(first);
+        verify(outboxRepository).deleteAllInBatch(second);
+        assertThat(meterRegistry.get("enrollment.outbox.published").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("enrollment.outbox.delay").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("relay() should stop after max-batches-per-run and leave the rest to the next run")
+    void relay_ShouldCapBatchesPerRun() {
+        // Given
+        when(outboxRepository.lockOldest(any(Limit.class))).thenReturn(events(1, 2), events(3, 4), events(5, 6));
+
+        // When
+        int published = relay.relay();
+
+        // Then
+        assertThat(published).isEqualTo(6);
+        verify(outboxRepository, times(3)).lockOldest(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("relay() should keep a batch the sink rejected in the outbox")
+    void relay_ShouldKeepBatchWhenSinkFails() {
+        // Given
+        when(outboxRepository.lockOldest(any(Limit.class))).thenReturn(events(1, 2));
+        doThrow(new IllegalStateException("broker down")).when(sink).publish(anyList());
+
+        // When
+        int published = relay.relay();
+
+        // Then
+        assertThat(published).isZero();
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+        assertThat(meterRegistry.get("enrollment.outbox.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("enrollment.outbox.published").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("relay() should not call the sink when the outbox is empty")
+    void relay_ShouldSkipSinkWhenOutboxIsEmpty() {
+        // Given
+        when(outboxRepository.lockOldest(any(Limit.class))).thenReturn(List.of());
+
+        // When
+        int published = relay.relay();
+
+        // Then
+        assertThat(published).isZero();
+        verify(outboxRepository, times(1)).lockOldest(any(Limit.class));
+        verify(sink, never()).publish(anyList());
+    }
+
+    private static List<EnrollmentOutboxEvent> events(long firstId, long lastId) {
+        return LongStream.rangeClosed(firstId, lastId).mapToObj(id -> {
+            EnrollmentOutboxEvent event = new EnrollmentOutboxEvent();
+            event.setId(id);
+            event.setEnrollmentId(100 + id);
+            event.setCourseId(1L);
+            event.setStudentId(id);
+            event.setStudentEmail("student" + id + "@example.com");
+            return event;
+        }).toList();
+    }
+}
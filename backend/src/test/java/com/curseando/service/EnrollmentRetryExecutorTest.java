@@ -0,0 +1,99 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.exception.EnrollmentContentionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EnrollmentRetryExecutor Tests")
+class EnrollmentRetryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EnrollmentRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.getRetry().setMaxAttempts(3);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+        meterRegistry = new SimpleMeterRegistry();
+        retryExecutor = new EnrollmentRetryExecutor(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("execute() should retry serialization failures and count the recovery")
+    void execute_ShouldRetrySerializationFailures() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = retryExecutor.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw transientFailure("40001");
+            }
+            return "enrolled";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("enrolled");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("enrollment.retry.attempts").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("enrollment.retry.recovered").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrollment.retry.exhausted").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("execute() should give up after max attempts with EnrollmentContentionException")
+    void execute_ShouldGiveUpAfterMaxAttempts() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When/Then
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw transientFailure("40P01");
+        })).isInstanceOf(EnrollmentContentionException.class);
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("enrollment.retry.exhausted").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("execute() should not retry business or integrity failures")
+    void execute_ShouldNotRetryOtherFailures() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When/Then
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw new DuplicateEnrollmentException("john.doe@example.com");
+        })).isInstanceOf(DuplicateEnrollmentException.class);
+
+        assertThatThrownBy(() -> retryExecutor.execute(() -> {
+            calls.incrementAndGet();
+            throw new DataIntegrityViolationException("unique",
+                    new SQLException("duplicate key", "23505"));
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("enrollment.retry.attempts").count()).isZero();
+    }
+
+    private static RuntimeException transientFailure(String sqlState) {
+        return new CannotAcquireLockException("aborted", new SQLException("aborted", sqlState));
+    }
+}
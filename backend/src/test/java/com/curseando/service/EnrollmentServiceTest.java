@@ -1,28 +1,44 @@
 package com.curseando.service;
 
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.BatchEnrollmentItemResult;
+import com.curseando.dto.BatchEnrollmentStatus;
 import com.curseando.dto.EnrollmentRequest;
 import com.curseando.dto.EnrollmentResponse;
 import com.curseando.exception.CourseFullException;
 import com.curseando.exception.CourseNotFoundException;
+import com.curseando.event.CourseSeatsChangedEvent;
 import com.curseando.exception.DuplicateEnrollmentException;
 import com.curseando.fixtures.CourseTestFixtures;
 import com.curseando.fixtures.EnrollmentTestFixtures;
 import com.curseando.fixtures.StudentTestFixtures;
 import com.curseando.model.Course;
 import com.curseando.model.Enrollment;
+import com.curseando.model.EnrollmentOutboxEvent;
 import com.curseando.model.Student;
 import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentOutboxRepository;
 import com.curseando.repository.EnrollmentRepository;
 import com.curseando.repository.StudentRepository;
+import com.curseando.service.EnrollmentService.EnrollmentOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +50,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("EnrollmentService Tests")
 class EnrollmentServiceTest {
 
+        private static final int SEATS = 10;
+
         @Mock
         private CourseRepository courseRepository;
 
@@ -43,9 +61,34 @@ class EnrollmentServiceTest {
         @Mock
         private EnrollmentRepository enrollmentRepository;
 
+        @Mock
+        private EnrollmentOutboxRepository outboxRepository;
+
+        @Mock
+        private SeatReservationEngine seatReservationEngine;
+
+        @Mock
+        private EnrollmentMembershipIndex membershipIndex;
+
+        @Spy
+        private EnrollmentRetryExecutor retryExecutor = new EnrollmentRetryExecutor(
+                        new EnrollmentProperties(), new SimpleMeterRegistry());
+
+        @Mock
+        private BatchEnrollmentService batchEnrollmentService;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
         @InjectMocks
         private EnrollmentService enrollmentService;
 
+        /** Counter the seats of these tests come from, to check they are handed back. */
+        private final SeatReservationEngine.SeatCounter seats = new SeatReservationEngine.SeatCounter(SEATS, 0);
+
         private Course testCourse;
         private Student testStudent;
         private EnrollmentRequest enrollmentRequest;
@@ -71,16 +114,14 @@ class EnrollmentServiceTest {
         @DisplayName("enroll() should successfully enroll new student")
         void enroll_ShouldSuccessfullyEnrollNewStudent() {
                 // Given
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
                 when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
-                when(enrollmentRepository.existsByCourseIdAndStudentEmail(1L, "john.doe@example.com"))
-                                .thenReturn(false);
-                when(studentRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.empty());
-                when(studentRepository.save(any(Student.class))).thenReturn(testStudent);
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
 
                 Enrollment enrollment = EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent);
                 enrollment.setId(1L);
-                when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
-                when(courseRepository.save(any(Course.class))).thenReturn(testCourse);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenReturn(enrollment);
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
 
                 // When
                 EnrollmentResponse response = enrollmentService.enroll(enrollmentRequest);
@@ -92,82 +133,223 @@ class EnrollmentServiceTest {
                 assertThat(response.getStudentName()).isEqualTo("John Doe");
 
                 // Verify interactions
+                verify(seatReservationEngine).tryReserve(1L);
                 verify(courseRepository).findById(1L);
-                verify(enrollmentRepository).existsByCourseIdAndStudentEmail(1L, "john.doe@example.com");
-                verify(studentRepository).findByEmail("john.doe@example.com");
-                verify(studentRepository).save(any(Student.class));
-                verify(enrollmentRepository).save(any(Enrollment.class));
-
-                // Verify enrolled count was incremented
-                ArgumentCaptor<Course> courseCaptor = ArgumentCaptor.forClass(Course.class);
-                verify(courseRepository).save(courseCaptor.capture());
-                assertThat(courseCaptor.getValue().getEnrolledCount()).isEqualTo(26);
+                verify(studentRepository).upsertByEmail("John Doe", "john.doe@example.com");
+                verify(enrollmentRepository).saveAndFlush(any(Enrollment.class));
+
+                // Verify enrolled count was incremented atomically, not via a full-row save
+                verify(courseRepository).incrementEnrolledCountIfAvailable(1L);
+                verify(courseRepository, never()).save(any(Course.class));
+                verify(eventPublisher).publishEvent(new CourseSeatsChangedEvent(1L));
+
+                // Verify the outbox event was written with the enrollment
+                verify(outboxRepository).save(argThat((EnrollmentOutboxEvent event) -> event.getEnrollmentId() == 1L
+                                && event.getCourseId() == 1L
+                                && "john.doe@example.com".equals(event.getStudentEmail())));
         }
 
         @Test
-        @DisplayName("enroll() should successfully enroll existing student")
+        @DisplayName("enroll() should keep the stored name of an existing student")
         void enroll_ShouldSuccessfullyEnrollExistingStudent() {
                 // Given
+                EnrollmentRequest renamedRequest = new EnrollmentRequest(1L, "Johnny Doe", "john.doe@example.com");
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
                 when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
-                when(enrollmentRepository.existsByCourseIdAndStudentEmail(1L, "john.doe@example.com"))
-                                .thenReturn(false);
-                when(studentRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testStudent));
+                when(studentRepository.upsertByEmail("Johnny Doe", "john.doe@example.com")).thenReturn(testStudent);
 
                 Enrollment enrollment = EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent);
                 enrollment.setId(1L);
-                when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
-                when(courseRepository.save(any(Course.class))).thenReturn(testCourse);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenReturn(enrollment);
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
 
                 // When
-                EnrollmentResponse response = enrollmentService.enroll(enrollmentRequest);
+                EnrollmentResponse response = enrollmentService.enroll(renamedRequest);
 
                 // Then
                 assertThat(response).isNotNull();
                 assertThat(response.getStudentEmail()).isEqualTo("john.doe@example.com");
+                assertThat(response.getStudentName()).isEqualTo("John Doe");
 
-                // Verify student was not created
+                // Verify student was resolved by the upsert, never saved through the entity
                 verify(studentRepository, never()).save(any(Student.class));
-                verify(enrollmentRepository).save(any(Enrollment.class));
+                verify(enrollmentRepository).saveAndFlush(any(Enrollment.class));
+        }
+
+        @Test
+        @DisplayName("enroll() should retry a write aborted by a serialization failure")
+        void enroll_ShouldRetryWriteAbortedBySerializationFailure() {
+                // Given
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
+
+                Enrollment enrollment = EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                                .thenThrow(new CannotAcquireLockException("aborted",
+                                                new SQLException("could not serialize access", "40001")))
+                                .thenReturn(enrollment);
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
+
+                // When
+                EnrollmentResponse response = enrollmentService.enroll(enrollmentRequest);
+
+                // Then
+                assertThat(response).isNotNull();
+                verify(enrollmentRepository, times(2)).saveAndFlush(any(Enrollment.class));
+                verify(seatReservationEngine, times(1)).tryReserve(1L);
+                assertThat(seats.getAvailableSpots()).isEqualTo(SEATS - 1);
         }
 
         @Test
         @DisplayName("enroll() should throw CourseFullException when course is full")
         void enroll_ShouldThrowCourseFullExceptionWhenCourseIsFull() {
                 // Given
-                Course fullCourse = CourseTestFixtures.createFullCourse();
-                when(courseRepository.findById(1L)).thenReturn(Optional.of(fullCourse));
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(noSeat());
 
                 // When/Then
                 assertThatThrownBy(() -> enrollmentService.enroll(enrollmentRequest))
                                 .isInstanceOf(CourseFullException.class)
                                 .hasMessageContaining("1");
 
-                verify(enrollmentRepository, never()).save(any(Enrollment.class));
+                verify(courseRepository, never()).findById(any());
+                verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
                 verify(studentRepository, never()).save(any(Student.class));
         }
 
         @Test
-        @DisplayName("enroll() should throw DuplicateEnrollmentException for duplicate email")
+        @DisplayName("enroll() should throw CourseFullException when database disagrees with seat counter")
+        void enroll_ShouldThrowCourseFullExceptionWhenDatabaseSaysFull() {
+                // Given
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(0);
+
+                // When/Then
+                assertThatThrownBy(() -> enrollmentService.enroll(enrollmentRequest))
+                                .isInstanceOf(CourseFullException.class);
+
+                verify(seatReservationEngine).evict(1L);
+                // The seat was handed back
+                assertThat(seats.getAvailableSpots()).isEqualTo(SEATS);
+        }
+
+        @Test
+        @DisplayName("enroll() should throw DuplicateEnrollmentException when the unique constraint rejects the insert")
         void enroll_ShouldThrowDuplicateEnrollmentExceptionForDuplicateEmail() {
                 // Given
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
                 when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
-                when(enrollmentRepository.existsByCourseIdAndStudentEmail(1L, "john.doe@example.com"))
-                                .thenReturn(true);
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                                .thenThrow(new DataIntegrityViolationException("duplicate key",
+                                                new ConstraintViolationException("duplicate key",
+                                                                new SQLException("duplicate key", "23505"),
+                                                                Enrollment.COURSE_STUDENT_CONSTRAINT)));
 
                 // When/Then
                 assertThatThrownBy(() -> enrollmentService.enroll(enrollmentRequest))
                                 .isInstanceOf(DuplicateEnrollmentException.class)
                                 .hasMessageContaining("john.doe@example.com");
 
-                verify(enrollmentRepository, never()).save(any(Enrollment.class));
-                verify(studentRepository, never()).save(any(Student.class));
+                verify(enrollmentRepository, never()).existsByCourseIdAndStudentEmail(any(), any());
+                verify(courseRepository, never()).incrementEnrolledCountIfAvailable(any());
+                // The seat was handed back
+                assertThat(seats.getAvailableSpots()).isEqualTo(SEATS);
+        }
+
+        @Test
+        @DisplayName("enroll() should not mistake other integrity violations for duplicates")
+        void enroll_ShouldRethrowOtherIntegrityViolations() {
+                // Given
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                                .thenThrow(new DataIntegrityViolationException("fk violation"));
+
+                // When/Then
+                assertThatThrownBy(() -> enrollmentService.enroll(enrollmentRequest))
+                                .isInstanceOf(DataIntegrityViolationException.class);
+                // The seat was handed back
+                assertThat(seats.getAvailableSpots()).isEqualTo(SEATS);
+        }
+
+        @Test
+        @DisplayName("enroll() should reject a confirmed duplicate of a known student before taking a seat")
+        void enroll_ShouldRejectKnownDuplicateBeforeReservingSeat() {
+                // Given
+                when(membershipIndex.findStudent("john.doe@example.com"))
+                                .thenReturn(new EnrollmentMembershipIndex.KnownStudent(1L, "John Doe"));
+                when(membershipIndex.mightBeEnrolled(1L, 1L)).thenReturn(true);
+                when(enrollmentRepository.existsByCourseIdAndStudentId(1L, 1L)).thenReturn(true);
+
+                // When/Then
+                assertThatThrownBy(() -> enrollmentService.enroll(enrollmentRequest))
+                                .isInstanceOf(DuplicateEnrollmentException.class);
+
+                verify(seatReservationEngine, never()).tryReserve(any());
+                verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
+        }
+
+        @Test
+        @DisplayName("enroll() should skip the duplicate query and the student upsert for a known student")
+        void enroll_ShouldSkipLookupsForKnownStudent() {
+                // Given
+                when(membershipIndex.findStudent("john.doe@example.com"))
+                                .thenReturn(new EnrollmentMembershipIndex.KnownStudent(1L, "John Doe"));
+                when(membershipIndex.mightBeEnrolled(1L, 1L)).thenReturn(false);
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+                when(studentRepository.getReferenceById(1L)).thenReturn(testStudent);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                                .thenReturn(EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent));
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
+
+                // When
+                EnrollmentResponse response = enrollmentService.enroll(enrollmentRequest);
+
+                // Then
+                assertThat(response.getStudentName()).isEqualTo("John Doe");
+                verify(enrollmentRepository, never()).existsByCourseIdAndStudentId(any(), any());
+                verify(studentRepository, never()).upsertByEmail(any(), any());
+                verify(membershipIndex).recordEnrollment(1L, 1L);
+        }
+
+        @Test
+        @DisplayName("enroll() should resolve the student again when the cached one no longer exists")
+        void enroll_ShouldResolveStudentAgainWhenCachedOneIsGone() {
+                // Given
+                when(membershipIndex.findStudent("john.doe@example.com"))
+                                .thenReturn(new EnrollmentMembershipIndex.KnownStudent(7L, "John Doe"));
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+                when(studentRepository.getReferenceById(7L)).thenReturn(StudentTestFixtures.builder().withId(7L).build());
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                                .thenThrow(new DataIntegrityViolationException("fk violation",
+                                                new ConstraintViolationException("fk violation",
+                                                                new SQLException("fk violation", "23503"),
+                                                                Enrollment.STUDENT_FOREIGN_KEY)))
+                                .thenReturn(EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent));
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
+
+                // When
+                EnrollmentResponse response = enrollmentService.enroll(enrollmentRequest);
+
+                // Then
+                assertThat(response).isNotNull();
+                verify(membershipIndex).forgetStudent("john.doe@example.com");
+                verify(studentRepository).upsertByEmail("John Doe", "john.doe@example.com");
+                assertThat(seats.getAvailableSpots()).isEqualTo(SEATS - 1);
         }
 
         @Test
         @DisplayName("enroll() should throw CourseNotFoundException when course doesn't exist")
         void enroll_ShouldThrowCourseNotFoundExceptionWhenCourseDoesNotExist() {
                 // Given
-                when(courseRepository.findById(999L)).thenReturn(Optional.empty());
+                when(seatReservationEngine.tryReserve(999L)).thenThrow(new CourseNotFoundException(999L));
                 EnrollmentRequest request = new EnrollmentRequest(999L, "John Doe", "john.doe@example.com");
 
                 // When/Then
@@ -175,7 +357,7 @@ class EnrollmentServiceTest {
                                 .isInstanceOf(CourseNotFoundException.class)
                                 .hasMessageContaining("999");
 
-                verify(enrollmentRepository, never()).save(any(Enrollment.class));
+                verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
                 verify(studentRepository, never()).save(any(Student.class));
         }
 
@@ -189,22 +371,87 @@ class EnrollmentServiceTest {
                                 .withEnrolledCount(10)
                                 .build();
 
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
                 when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-                when(enrollmentRepository.existsByCourseIdAndStudentEmail(1L, "john.doe@example.com"))
-                                .thenReturn(false);
-                when(studentRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.empty());
-                when(studentRepository.save(any(Student.class))).thenReturn(testStudent);
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
 
                 Enrollment enrollment = EnrollmentTestFixtures.createDefaultEnrollment(course, testStudent);
-                when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
-                when(courseRepository.save(any(Course.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenReturn(enrollment);
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
+                when(seatReservationEngine.getAvailableSpots(1L)).thenReturn(39);
 
                 // When
-                enrollmentService.enroll(enrollmentRequest);
+                EnrollmentResponse response = enrollmentService.enroll(enrollmentRequest);
+
+                // Then
+                verify(courseRepository).incrementEnrolledCountIfAvailable(1L);
+                assertThat(response.getAvailableSpots()).isEqualTo(39);
+        }
+
+        @Test
+        @DisplayName("enrollGroup() should answer each request as enroll() would from one batch write")
+        void enrollGroup_ShouldMapBatchResultsToOutcomes() {
+                // Given
+                EnrollmentRequest duplicate = new EnrollmentRequest(1L, "Jane Doe", "jane.doe@example.com");
+                EnrollmentRequest tooLate = new EnrollmentRequest(1L, "Jim Doe", "jim.doe@example.com");
+                List<EnrollmentRequest> group = List.of(enrollmentRequest, duplicate, tooLate);
+
+                Enrollment enrollment = EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent);
+                enrollment.setId(7L);
+                when(batchEnrollmentService.write(group)).thenReturn(new BatchEnrollmentService.Written(
+                                List.of(itemResult(0, enrollmentRequest, BatchEnrollmentStatus.ENROLLED, 7L),
+                                                itemResult(1, duplicate, BatchEnrollmentStatus.DUPLICATE, null),
+                                                itemResult(2, tooLate, BatchEnrollmentStatus.COURSE_FULL, null)),
+                                Arrays.asList(enrollment, null, null)));
+                when(seatReservationEngine.getAvailableSpots(1L)).thenReturn(0);
+
+                // When
+                List<EnrollmentOutcome> outcomes = enrollmentService.enrollGroup(group);
+
+                // Then
+                assertThat(outcomes).hasSize(3);
+                assertThat(outcomes.get(0).response().getId()).isEqualTo(7L);
+                assertThat(outcomes.get(0).response().getStudentName()).isEqualTo("John Doe");
+                assertThat(outcomes.get(0).response().getAvailableSpots()).isZero();
+                assertThat(outcomes.get(1).failure()).isInstanceOf(DuplicateEnrollmentException.class);
+                assertThat(outcomes.get(2).failure()).isInstanceOf(CourseFullException.class);
+                verify(seatReservationEngine, never()).tryReserve(any());
+        }
+
+        @Test
+        @DisplayName("enrollGroup() should enroll each request on its own when the group write hits a constraint")
+        void enrollGroup_ShouldFallBackToSingleEnrollments() {
+                // Given
+                when(batchEnrollmentService.write(List.of(enrollmentRequest)))
+                                .thenThrow(new DataIntegrityViolationException("students email taken"));
+                when(seatReservationEngine.tryReserve(1L)).thenReturn(seat());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+                when(studentRepository.upsertByEmail("John Doe", "john.doe@example.com")).thenReturn(testStudent);
+                when(enrollmentRepository.saveAndFlush(any(Enrollment.class)))
+                                .thenReturn(EnrollmentTestFixtures.createDefaultEnrollment(testCourse, testStudent));
+                when(courseRepository.incrementEnrolledCountIfAvailable(1L)).thenReturn(1);
+
+                // When
+                List<EnrollmentOutcome> outcomes = enrollmentService.enrollGroup(List.of(enrollmentRequest));
 
                 // Then
-                ArgumentCaptor<Course> courseCaptor = ArgumentCaptor.forClass(Course.class);
-                verify(courseRepository).save(courseCaptor.capture());
-                assertThat(courseCaptor.getValue().getEnrolledCount()).isEqualTo(11);
+                assertThat(outcomes).singleElement()
+                                .satisfies(outcome -> assertThat(outcome.response().getStudentEmail())
+                                                .isEqualTo("john.doe@example.com"));
+                verify(enrollmentRepository).saveAndFlush(any(Enrollment.class));
+        }
+
+        private static BatchEnrollmentItemResult itemResult(int index, EnrollmentRequest request,
+                        BatchEnrollmentStatus status, Long enrollmentId) {
+                return new BatchEnrollmentItemResult(index, request.getCourseId(), request.getEmail(), status,
+                                enrollmentId, null);
+        }
+
+        private SeatReservationEngine.Reservation seat() {
+                return new SeatReservationEngine.Reservation(seats, seats.tryReserve(1));
+        }
+
+        private SeatReservationEngine.Reservation noSeat() {
+                return new SeatReservationEngine.Reservation(seats, 0);
         }
 }
@@ -0,0 +1,247 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.EnrollmentResponse;
+import com.curseando.dto.EnrollmentTicketResponse;
+import com.curseando.dto.WaitlistPositionResponse;
+import com.curseando.exception.CourseFullException;
+import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.exception.EnrollmentContentionException;
+import com.curseando.exception.EnrollmentQueueFullException;
+import com.curseando.exception.EnrollmentTicketNotFoundException;
+import com.curseando.model.Enrollment;
+import com.curseando.model.EnrollmentTicket;
+import com.curseando.model.EnrollmentTicketStatus;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.EnrollmentTicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrollmentTicketService Tests")
+class EnrollmentTicketServiceTest {
+
+    @Mock
+    private EnrollmentTicketRepository ticketRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private EnrollmentAdmissionQueue admissionQueue;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+
+    private EnrollmentTicketService ticketService;
+
+    private final AtomicInteger followUps = new AtomicInteger();
+
+    private final UUID ticketId = UUID.randomUUID();
+    private final EnrollmentRequest request = new EnrollmentRequest(1L, "John Doe", "john.doe@example.com");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(admissionQueue.followUps()).thenReturn(command -> {
+            followUps.incrementAndGet();
+            command.run();
+        });
+        ticketService = new EnrollmentTicketService(ticketRepository, enrollmentRepository, admissionQueue,
+                waitlistService, seatReservationEngine, new EnrollmentProperties());
+    }
+
+    @Test
+    @DisplayName("submit() should store a pending ticket and record the enrollment once its lane is done")
+    void submit_ShouldStoreTicketAndRecordEnrollment() {
+        // Given
+        givenSavedTicket();
+        when(admissionQueue.submit(any(EnrollmentRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                new EnrollmentResponse(42L, 1L, "Course", "John Doe", "john.doe@example.com",
+                        LocalDateTime.now(), 9)));
+
+        // When
+        EnrollmentTicketResponse response = ticketService.submit(request);
+
+        // Then
+        assertThat(response.getId()).isEqualTo(ticketId);
+        assertThat(response.getStatus()).isEqualTo(EnrollmentTicketStatus.PENDING);
+        verify(ticketRepository).complete(eq(ticketId), eq(EnrollmentTicketStatus.ENROLLED), eq(42L), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("submit() should put the student on the waitlist when the course is full")
+    void submit_ShouldRecordWaitlistPositionWhenCourseIsFull() {
+        // Given
+        givenSavedTicket();
+        when(admissionQueue.submit(any(EnrollmentRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new CourseFullException(1L)));
+        when(waitlistService.join(any(EnrollmentRequest.class)))
+                .thenReturn(new WaitlistPositionResponse(1L, "john.doe@example.com", 3L));
+
+        // When
+        ticketService.submit(request);
+
+        // Then
+        verify(ticketRepository).complete(eq(ticketId), eq(EnrollmentTicketStatus.WAITLISTED), isNull(), eq(3L),
+                isNull(), isNull(), any(LocalDateTime.class));
+        // Joined from the follow-up executor, not the lane
+        assertThat(followUps).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("submit() should reject a duplicate with its reason")
+    void submit_ShouldRejectDuplicate() {
+        // Given
+        givenSavedTicket();
+        when(admissionQueue.submit(any(EnrollmentRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new DuplicateEnrollmentException("john.doe@example.com")));
+
+        // When
+        ticketService.submit(request);
+
+        // Then
+        verify(ticketRepository).complete(eq(ticketId), eq(EnrollmentTicketStatus.REJECTED), isNull(), isNull(),
+                eq("DuplicateEnrollmentException"), any(String.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("sweep() should record a redelivered ticket as enrolled when its enrollment already committed")
+    void sweep_ShouldRecordEnrollmentOfRedeliveredTicket() {
+        // Given
+        EnrollmentTicket redelivered = ticket(ticketId);
+        Enrollment committed = new Enrollment();
+        committed.setId(42L);
+        committed.setTicketId(ticketId);
+        when(ticketRepository.findClaimable(any(LocalDateTime.class), any())).thenReturn(List.of(redelivered));
+        when(ticketRepository.claim(eq(ticketId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(admissionQueue.submit(any(EnrollmentRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new DuplicateEnrollmentException(redelivered.getEmail())));
+        when(enrollmentRepository.findByCourseIdAndStudentEmail(1L, redelivered.getEmail()))
+                .thenReturn(Optional.of(committed));
+
+        // When
+        ticketService.sweep();
+
+        // Then
+        verify(ticketRepository).complete(eq(ticketId), eq(EnrollmentTicketStatus.ENROLLED), eq(42L), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("sweep() should reject a redelivered ticket when the enrollment it collides with is not its own")
+    void sweep_ShouldRejectRedeliveredTicketWhenEnrollmentIsNotItsOwn() {
+        // Given - enrolled after the ticket was created, but through another request
+        EnrollmentTicket redelivered = ticket(ticketId);
+        Enrollment other = new Enrollment();
+        other.setId(43L);
+        other.setEnrollmentDate(redelivered.getCreatedAt().plusSeconds(1));
+        when(ticketRepository.findClaimable(any(LocalDateTime.class), any())).thenReturn(List.of(redelivered));
+        when(ticketRepository.claim(eq(ticketId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(admissionQueue.submit(any(EnrollmentRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new DuplicateEnrollmentException(redelivered.getEmail())));
+        when(enrollmentRepository.findByCourseIdAndStudentEmail(1L, redelivered.getEmail()))
+                .thenReturn(Optional.of(other));
+
+        // When
+        ticketService.sweep();
+
+        // Then
+        verify(ticketRepository).complete(eq(ticketId), eq(EnrollmentTicketStatus.REJECTED), isNull(), isNull(),
+                eq("DuplicateEnrollmentException"), any(String.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("submit() should leave the ticket pending for the next sweep when its lane cannot take it")
+    void submit_ShouldReleaseTicketWhenLaneCannotTakeIt() {
+        // Given
+        givenSavedTicket();
+        when(admissionQueue.submit(any(EnrollmentRequest.class)))
+                .thenThrow(new EnrollmentQueueFullException(1L, Duration.ofSeconds(1)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new EnrollmentContentionException(new RuntimeException("deadlock"))));
+
+        // When
+        ticketService.submit(request);
+        ticketService.submit(request);
+
+        // Then
+        verify(ticketRepository, times(2)).release(ticketId);
+        verify(ticketRepository, never()).complete(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("sweep() should only dispatch the tickets it managed to claim")
+    void sweep_ShouldDispatchClaimedTicketsOnly() {
+        // Given
+        EnrollmentTicket mine = ticket(UUID.randomUUID());
+        EnrollmentTicket taken = ticket(UUID.randomUUID());
+        when(ticketRepository.findClaimable(any(LocalDateTime.class), any())).thenReturn(List.of(mine, taken));
+        when(ticketRepository.claim(eq(mine.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(ticketRepository.claim(eq(taken.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(admissionQueue.submit(any(EnrollmentRequest.class))).thenReturn(new CompletableFuture<>());
+
+        // When
+        int dispatched = ticketService.sweep();
+
+        // Then
+        assertThat(dispatched).isEqualTo(1);
+        verify(admissionQueue).submit(any(EnrollmentRequest.class));
+    }
+
+    @Test
+    @DisplayName("getTicket() should throw when the ticket does not exist")
+    void getTicket_ShouldThrowWhenMissing() {
+        // Given
+        when(ticketRepository.findById(ticketId)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> ticketService.getTicket(ticketId))
+                .isInstanceOf(EnrollmentTicketNotFoundException.class);
+    }
+
+    private void givenSavedTicket() {
+        when(ticketRepository.save(any(EnrollmentTicket.class))).thenAnswer(invocation -> {
+            EnrollmentTicket ticket = invocation.getArgument(0);
+            ticket.setId(ticketId);
+            return ticket;
+        });
+    }
+
+    private EnrollmentTicket ticket(UUID id) {
+        EnrollmentTicket ticket = new EnrollmentTicket(1L, "John Doe", id + "@example.com");
+        ticket.setId(id);
+        return ticket;
+    }
+}
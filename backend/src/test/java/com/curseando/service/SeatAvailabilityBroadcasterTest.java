@@ -0,0 +1,168 @@
+package com.curseando.service;
+
+import com.curseando.config.AvailabilityStreamProperties;
+import com.curseando.dto.CourseDTO;
+import com.curseando.event.CourseSeatsChangedEvent;
+import com.curseando.exception.CourseNotFoundException;
+import com.curseando.model.DifficultyLevel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatAvailabilityBroadcaster Tests")
+class SeatAvailabilityBroadcasterTest {
+
+    @Mock
+    private CourseService courseService;
+
+    private SeatAvailabilityBroadcaster broadcaster;
+
+    private final CourseDTO course = new CourseDTO(1L, "Course 1", "Instructor", "40 hours",
+            DifficultyLevel.BEGINNER, "Description", 50, 10);
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new SeatAvailabilityBroadcaster(courseService, new ObjectMapper(),
+                new AvailabilityStreamProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("flush() should coalesce a burst of changes into one lookup per course")
+    void flush_ShouldCoalesceBurstPerCourse() {
+        // Given
+        when(courseService.findById(1L)).thenReturn(Optional.of(course));
+        broadcaster.subscribe(1L);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            broadcaster.onSeatsChanged(new CourseSeatsChangedEvent(1L));
+        }
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // Then: one lookup to subscribe, one for the whole burst
+        verify(courseService, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("flush() should skip courses nobody is watching")
+    void flush_ShouldSkipCoursesWithoutSubscribers() {
+        // Given
+        broadcaster.onSeatsChanged(new CourseSeatsChangedEvent(1L));
+
+        // When
+        broadcaster.flush();
+
+        // Then
+        verify(courseService, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("subscribe() should reject unknown courses without registering a subscriber")
+    void subscribe_ShouldRejectUnknownCourse() {
+        // Given
+        when(courseService.findById(999L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> broadcaster.subscribe(999L))
+                .isInstanceOf(CourseNotFoundException.class);
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A blocked write should hold up neither the flush nor other subscribers, and drop its subscriber")
+    void flush_ShouldNotBlockOnSlowSubscriber() throws Exception {
+        // Given
+        AvailabilityStreamProperties properties = new AvailabilityStreamProperties();
+        properties.setSendTimeout(Duration.ofMillis(50));
+        Deque<SseEmitter> emitters = new ArrayDeque<>();
+        broadcaster.destroy();
+        broadcaster = new SeatAvailabilityBroadcaster(courseService, new ObjectMapper(), properties) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitters.pop();
+            }
+        };
+        StallingEmitter slow = new StallingEmitter();
+        StallingEmitter fast = new StallingEmitter();
+        emitters.add(slow);
+        emitters.add(fast);
+        when(courseService.findById(1L)).thenReturn(Optional.of(course));
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(1L);
+        slow.stall = true;
+
+        try {
+            // When
+            broadcaster.onSeatsChanged(new CourseSeatsChangedEvent(1L));
+            CompletableFuture.runAsync(broadcaster::flush).get(1, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(slow.stalled.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(fast.sent.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Blocked past the send timeout: the next event drops it instead of queueing
+            Thread.sleep(100);
+            CompletableFuture.runAsync(broadcaster::heartbeat).get(1, TimeUnit.SECONDS);
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        } finally {
+            slow.release.countDown();
+        }
+    }
+
+    /**
+     * Counts its writes, the initial one included, and blocks them while {@code stall} is set.
+     */
+    private static final class StallingEmitter extends SseEmitter {
+
+        private final CountDownLatch stalled = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch sent = new CountDownLatch(2);
+        private volatile boolean stall;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (stall) {
+                stalled.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.send(items);
+            sent.countDown();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.curseando.service;
+
+import com.curseando.config.EnrollmentProperties;
+import com.curseando.exception.CourseNotFoundException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.repository.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatReservationEngine Tests")
+class SeatReservationEngineTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Spy
+    private EnrollmentProperties properties = new EnrollmentProperties();
+
+    @InjectMocks
+    private SeatReservationEngine seatReservationEngine;
+
+    @Test
+    @DisplayName("tryReserve() should grant seats until capacity is reached")
+    void tryReserve_ShouldGrantSeatsUntilCapacityIsReached() {
+        // Given
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(3, 1)));
+
+        // When/Then
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isFalse();
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isFalse();
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isTrue();
+        assertThat(seatReservationEngine.getAvailableSpots(1L)).isEqualTo(0);
+
+        // Counter is loaded once and then served from memory
+        verify(courseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("tryReserve(seats) should grant only the seats that are left")
+    void tryReserveSeats_ShouldGrantOnlyRemainingSeats() {
+        // Given
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(10, 6)));
+
+        // When/Then
+        SeatReservationEngine.Reservation first = seatReservationEngine.tryReserve(1L, 3);
+        assertThat(first.seats()).isEqualTo(3);
+        assertThat(seatReservationEngine.tryReserve(1L, 3).seats()).isEqualTo(1);
+        assertThat(seatReservationEngine.tryReserve(1L, 3).seats()).isZero();
+
+        first.release();
+        assertThat(seatReservationEngine.getAvailableSpots(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("release() should hand a seat back")
+    void release_ShouldHandSeatBack() {
+        // Given
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(1, 0)));
+        SeatReservationEngine.Reservation seat = seatReservationEngine.tryReserve(1L);
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isTrue();
+
+        // When
+        seat.release();
+
+        // Then
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("release() should not hand seats to a counter reloaded after they were won")
+    void release_ShouldIgnoreReloadedCounter() {
+        // Given
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(10, 0)))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(10, 4)));
+        SeatReservationEngine.Reservation seats = seatReservationEngine.tryReserve(1L, 2);
+        seatReservationEngine.evict(1L);
+        assertThat(seatReservationEngine.getAvailableSpots(1L)).isEqualTo(6);
+
+        // When
+        seats.release();
+
+        // Then
+        assertThat(seatReservationEngine.getAvailableSpots(1L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("evict() should force the counter to reload from the database")
+    void evict_ShouldForceReload() {
+        // Given
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(10, 0)))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(10, 10)));
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isFalse();
+
+        // When
+        seatReservationEngine.evict(1L);
+
+        // Then
+        assertThat(seatReservationEngine.tryReserve(1L).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tryReserve() should reload a full counter once it is due, and pick up a raised capacity")
+    void tryReserve_ShouldPickUpRaisedCapacity_WhenFullCounterIsRechecked() {
+        // Given
+        properties.getAdmission().setFullRecheckInterval(Duration.ZERO);
+        SeatReservationEngine engine = new SeatReservationEngine(courseRepository, properties);
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(1, 0)))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(3, 1)));
+        assertThat(engine.tryReserve(1L).isEmpty()).isFalse();
+
+        // When
+        SeatReservationEngine.Reservation seats = engine.tryReserve(1L, 5);
+
+        // Then
+        assertThat(seats.seats()).isEqualTo(2);
+        assertThat(engine.getAvailableSpots(1L)).isZero();
+        verify(courseRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("tryReserve() should answer full from memory until the recheck is due")
+    void tryReserve_ShouldNotReloadFullCounter_BeforeRecheckIsDue() {
+        // Given
+        properties.getAdmission().setFullRecheckInterval(Duration.ofHours(1));
+        SeatReservationEngine engine = new SeatReservationEngine(courseRepository, properties);
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(1, 1)));
+
+        // When/Then
+        assertThat(engine.tryReserve(1L).isEmpty()).isTrue();
+        assertThat(engine.tryReserve(1L).isEmpty()).isTrue();
+        verify(courseRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("tryReserve() should throw CourseNotFoundException for unknown course")
+    void tryReserve_ShouldThrowCourseNotFoundExceptionForUnknownCourse() {
+        // Given
+        when(courseRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> seatReservationEngine.tryReserve(999L))
+                .isInstanceOf(CourseNotFoundException.class)
+                .hasMessageContaining("999");
+    }
+
+    @Test
+    @DisplayName("tryReserve() should never oversell under contention")
+    void tryReserve_ShouldNeverOversellUnderContention() throws InterruptedException {
+        // Given
+        int capacity = 25;
+        int attempts = 500;
+        when(courseRepository.findById(1L))
+                .thenReturn(Optional.of(CourseTestFixtures.createCourseWithSpots(capacity, 0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(attempts);
+        AtomicInteger granted = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < attempts; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (!seatReservationEngine.tryReserve(1L).isEmpty()) {
+                        granted.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        assertThat(granted.get()).isEqualTo(capacity);
+        assertThat(seatReservationEngine.getAvailableSpots(1L)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,161 @@
+package com.curseando.service;
+
+import com.curseando.dto.EnrollmentRequest;
+import com.curseando.dto.WaitlistPositionResponse;
+import com.curseando.exception.DuplicateEnrollmentException;
+import com.curseando.exception.WaitlistEntryNotFoundException;
+import com.curseando.fixtures.CourseTestFixtures;
+import com.curseando.fixtures.StudentTestFixtures;
+import com.curseando.model.Course;
+import com.curseando.model.Student;
+import com.curseando.model.WaitlistEntry;
+import com.curseando.repository.CourseRepository;
+import com.curseando.repository.EnrollmentRepository;
+import com.curseando.repository.StudentRepository;
+import com.curseando.repository.WaitlistEntryRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitlistService Tests")
+class WaitlistServiceTest {
+
+        @Mock
+        private CourseRepository courseRepository;
+
+        @Mock
+        private StudentRepository studentRepository;
+
+        @Mock
+        private EnrollmentRepository enrollmentRepository;
+
+        @Mock
+        private WaitlistEntryRepository waitlistEntryRepository;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        @InjectMocks
+        private WaitlistService waitlistService;
+
+        private Course fullCourse;
+        private Student testStudent;
+
+        @BeforeEach
+        void setUp() {
+                fullCourse = CourseTestFixtures.createFullCourse();
+                testStudent = StudentTestFixtures.createDefaultStudent();
+        }
+
+        @Test
+        @DisplayName("join() should hand out tickets in arrival order after the stored ones")
+        void join_ShouldHandOutTicketsInArrivalOrder() {
+                // Given
+                stubNewJoin();
+                when(waitlistEntryRepository.findTailTicket(1L)).thenReturn(4L);
+                when(waitlistEntryRepository.findHeadTicket(1L)).thenReturn(3L);
+
+                // When
+                WaitlistPositionResponse first = waitlistService.join(
+                                new EnrollmentRequest(1L, "Jane Roe", "jane.roe@example.com"));
+                WaitlistPositionResponse second = waitlistService.join(
+                                new EnrollmentRequest(1L, "John Doe", "john.doe@example.com"));
+
+                // Then
+                assertThat(first.getPosition()).isEqualTo(3L);
+                assertThat(second.getPosition()).isEqualTo(4L);
+                ArgumentCaptor<WaitlistEntry> saved = ArgumentCaptor.forClass(WaitlistEntry.class);
+                verify(waitlistEntryRepository, times(2)).saveAndFlush(saved.capture());
+                assertThat(saved.getAllValues()).extracting(WaitlistEntry::getTicket).containsExactly(5L, 6L);
+                verify(waitlistEntryRepository, times(1)).findTailTicket(1L);
+        }
+
+        @Test
+        @DisplayName("join() should keep the place of a student already waiting")
+        void join_ShouldKeepPlaceOfStudentAlreadyWaiting() {
+                // Given
+                when(waitlistEntryRepository.findTicket(1L, "john.doe@example.com")).thenReturn(Optional.of(7L));
+                when(waitlistEntryRepository.findHeadTicket(1L)).thenReturn(5L);
+
+                // When
+                WaitlistPositionResponse response = waitlistService.join(
+                                new EnrollmentRequest(1L, "John Doe", "john.doe@example.com"));
+
+                // Then
+                assertThat(response.getPosition()).isEqualTo(3L);
+                assertThat(response.getStatus()).isEqualTo(WaitlistPositionResponse.WAITLISTED);
+                verify(waitlistEntryRepository, never()).saveAndFlush(any(WaitlistEntry.class));
+        }
+
+        @Test
+        @DisplayName("join() should reject a student already enrolled in the course")
+        void join_ShouldRejectEnrolledStudent() {
+                // Given
+                when(enrollmentRepository.existsByCourseIdAndStudentEmail(1L, "john.doe@example.com")).thenReturn(true);
+
+                // When/Then
+                assertThatThrownBy(() -> waitlistService.join(
+                                new EnrollmentRequest(1L, "John Doe", "john.doe@example.com")))
+                                .isInstanceOf(DuplicateEnrollmentException.class);
+                verify(waitlistEntryRepository, never()).saveAndFlush(any(WaitlistEntry.class));
+        }
+
+        @Test
+        @DisplayName("join() should reseed the ticket counter when a ticket was already taken")
+        void join_ShouldReseedTicketsAfterCollision() {
+                // Given
+                stubNewJoin();
+                when(waitlistEntryRepository.findTailTicket(1L)).thenReturn(4L).thenReturn(9L);
+                when(waitlistEntryRepository.findHeadTicket(1L)).thenReturn(1L);
+                when(waitlistEntryRepository.saveAndFlush(any(WaitlistEntry.class)))
+                                .thenThrow(new DataIntegrityViolationException("duplicate key",
+                                                new ConstraintViolationException("duplicate key",
+                                                                new SQLException("duplicate key", "23505"),
+                                                                WaitlistEntry.COURSE_TICKET_CONSTRAINT)))
+                                .thenAnswer(invocation -> invocation.getArgument(0));
+
+                // When
+                WaitlistPositionResponse response = waitlistService.join(
+                                new EnrollmentRequest(1L, "John Doe", "john.doe@example.com"));
+
+                // Then
+                assertThat(response.getPosition()).isEqualTo(10L);
+                verify(waitlistEntryRepository, times(2)).findTailTicket(1L);
+        }
+
+        @Test
+        @DisplayName("getPosition() should throw when the student is not waiting")
+        void getPosition_ShouldThrowWhenNotWaiting() {
+                // Given
+                when(waitlistEntryRepository.findTicket(1L, "john.doe@example.com")).thenReturn(Optional.empty());
+
+                // When/Then
+                assertThatThrownBy(() -> waitlistService.getPosition(1L, "john.doe@example.com"))
+                                .isInstanceOf(WaitlistEntryNotFoundException.class)
+                                .hasMessageContaining("john.doe@example.com");
+        }
+
+        private void stubNewJoin() {
+                when(waitlistEntryRepository.findTicket(eq(1L), anyString())).thenReturn(Optional.empty());
+                when(courseRepository.findById(1L)).thenReturn(Optional.of(fullCourse));
+                when(studentRepository.upsertByEmail(anyString(), anyString())).thenReturn(testStudent);
+        }
+}
@@ -1,7 +1,7 @@
 import { Injectable, inject, signal } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable, catchError, throwError } from 'rxjs';
-import { EnrollmentRequest, EnrollmentResponse } from '../../shared/models/enrollment.interface';
+import { EnrollmentRequest, EnrollmentResponse, WaitlistPosition } from '../../shared/models/enrollment.interface';
 import { environment } from '../../../environments/environment';
 
 @Injectable({ providedIn: 'root' })
@@ -13,13 +13,18 @@ export class EnrollmentService {
   loading = signal<boolean>(false);
   error = signal<string | null>(null);
   success = signal<boolean>(false);
+  waitlistPosition = signal<WaitlistPosition | null>(null);
 
-  enroll(request: EnrollmentRequest): Observable<EnrollmentResponse> {
+  /**
+   * Emits the enrollment, or the waitlist position when the course is full (202).
+   */
+  enroll(request: EnrollmentRequest): Observable<EnrollmentResponse | WaitlistPosition> {
     this.loading.set(true);
     this.error.set(null);
     this.success.set(false);
+    this.waitlistPosition.set(null);
 
-    return this.http.post<EnrollmentResponse>(`${this.apiUrl}/enrollments`, request).pipe(
+    return this.http.post<EnrollmentResponse | WaitlistPosition>(`${this.apiUrl}/enrollments`, request).pipe(
       catchError(err => {
         const message = this.getErrorMessage(err);
         this.error.set(message);
@@ -32,7 +37,10 @@ export class EnrollmentService {
 
   private getErrorMessage(error: any): string {
     if (error.status === 409) {
-      return error.error?.message || 'You are already enrolled in this course or the course is full';
+      return error.error?.message || 'You are already enrolled in this course';
+    }
+    if (error.status === 429) {
+      return 'Too many students are enrolling in this course right now. Please try again in a moment.';
     }
     if (error.status === 400) {
       return error.error?.message || 'Invalid enrollment data';
@@ -74,16 +74,15 @@ import { Course, DifficultyLevel } from '../../shared/models/course.interface';
 
           <div class="border-t pt-8">
             @if (courseData.enrolledCount >= courseData.maxCapacity) {
-              <div class="bg-yellow-50 border border-yellow-200 text-yellow-800 px-4 py-3 rounded">
+              <div class="bg-yellow-50 border border-yellow-200 text-yellow-800 px-4 py-3 rounded mb-6">
                 <p class="font-semibold">Course Full</p>
-                <p class="text-sm mt-1">This course has reached its maximum capacity. Please check back later or explore other courses.</p>
+                <p class="text-sm mt-1">This course has reached its maximum capacity. Sign up below to join the waitlist.</p>
               </div>
-            } @else {
-              <app-enrollment-form
-                [courseId]="courseData.id"
-                (enrollmentSuccess)="onEnrollmentSuccess()">
-              </app-enrollment-form>
             }
+            <app-enrollment-form
+              [courseId]="courseData.id"
+              (enrollmentSuccess)="onEnrollmentSuccess()">
+            </app-enrollment-form>
           </div>
         </div>
       }
@@ -3,7 +3,7 @@ import { FormBuilder, ReactiveFormsModule } from '@angular/forms';
 import { of, throwError } from 'rxjs';
 import { EnrollmentFormComponent } from './enrollment-form.component';
 import { EnrollmentService } from '../../core/services/enrollment.service';
-import { EnrollmentRequest, EnrollmentResponse } from '../../shared/models/enrollment.interface';
+import { EnrollmentRequest, EnrollmentResponse, WaitlistPosition } from '../../shared/models/enrollment.interface';
 import { signal } from '@angular/core';
 
 describe('EnrollmentFormComponent', () => {
@@ -28,7 +28,8 @@ describe('EnrollmentFormComponent', () => {
       enroll: enrollSpy,
       loading: signal<boolean>(false),
       error: signal<string | null>(null),
-      success: signal<boolean>(false)
+      success: signal<boolean>(false),
+      waitlistPosition: signal<WaitlistPosition | null>(null)
     };
 
     await TestBed.configureTestingModule({
@@ -139,6 +140,28 @@ describe('EnrollmentFormComponent', () => {
     expect(enrollmentSuccessEmitted).toBe(true);
   });
 
+  it('should show the waitlist position instead of success when the course is full', () => {
+    const waitlisted: WaitlistPosition = {
+      courseId: 1,
+      studentEmail: 'john.doe@example.com',
+      position: 3,
+      status: 'WAITLISTED'
+    };
+    (enrollmentService.enroll as jest.Mock).mockReturnValue(of(waitlisted));
+
+    component.enrollmentForm.patchValue({
+      fullName: 'John Doe',
+      email: 'john.doe@example.com'
+    });
+
+    component.onSubmit();
+    fixture.detectChanges();
+
+    expect(enrollmentService.success!()).toBe(false);
+    expect(enrollmentSuccessEmitted).toBe(false);
+    expect(fixture.nativeElement.textContent).toContain('number 3 on the waitlist');
+  });
+
   it('should disable form during loading', () => {
     enrollmentService.loading = signal(true);
     fixture.detectChanges();
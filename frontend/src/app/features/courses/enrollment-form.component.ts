@@ -57,6 +57,14 @@ import { EnrollmentRequest } from '../../shared/models/enrollment.interface';
           </div>
         }
 
+        <!-- Waitlist Message -->
+        @if (enrollmentService.waitlistPosition(); as waitlist) {
+          <div class="bg-yellow-50 border border-yellow-200 text-yellow-800 px-4 py-3 rounded">
+            This course is full. You are number {{ waitlist.position }} on the waitlist and will be
+            enrolled automatically when a seat frees up.
+          </div>
+        }
+
         <!-- Error Message -->
         @if (enrollmentService.error(); as error) {
           <div class="bg-red-50 border border-red-200 text-red-800 px-4 py-3 rounded">
@@ -101,10 +109,14 @@ export class EnrollmentFormComponent {
       };
 
       this.enrollmentService.enroll(request).subscribe({
-        next: () => {
-          this.enrollmentService.success.set(true);
+        next: (response) => {
           this.enrollmentService.loading.set(false);
           this.enrollmentForm.reset();
+          if ('position' in response) {
+            this.enrollmentService.waitlistPosition.set(response);
+            return;
+          }
+          this.enrollmentService.success.set(true);
           this.enrollmentSuccess.emit();
         },
         error: () => {
@@ -4,7 +4,10 @@ export interface Course {
   instructor: string;
   duration: string;
   difficulty: DifficultyLevel;
-  description: string;
+  /** Full text, only returned by GET /api/courses/{id} */
+  description?: string;
+  /** Start of the description, returned by the list endpoint instead of the full text */
+  teaser?: string;
   maxCapacity: number;
   enrolledCount: number;
   availableSpots?: number;
@@ -14,3 +14,10 @@ export interface EnrollmentResponse {
   availableSpots: number;
 }
 
+
+export interface WaitlistPosition {
+  courseId: number;
+  studentEmail: string;
+  position: number;
+  status: 'WAITLISTED';
+}